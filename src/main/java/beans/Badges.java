@@ -0,0 +1,192 @@
+
+package beans;
+
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "attachments",
+    "comments",
+    "checkItems",
+    "checkItemsChecked",
+    "description",
+    "subscribed",
+    "votes"
+})
+public class Badges {
+
+    @JsonProperty("attachments")
+    private Integer attachments;
+    @JsonProperty("comments")
+    private Integer comments;
+    @JsonProperty("checkItems")
+    private Integer checkItems;
+    @JsonProperty("checkItemsChecked")
+    private Integer checkItemsChecked;
+    @JsonProperty("description")
+    private Boolean description;
+    @JsonProperty("subscribed")
+    private Boolean subscribed;
+    @JsonProperty("votes")
+    private Integer votes;
+    @JsonIgnore
+    private Map<String, Object> additionalProperties = new HashMap<String, Object>();
+
+    @JsonProperty("attachments")
+    public Integer getAttachments() {
+        return attachments;
+    }
+
+    @JsonProperty("attachments")
+    public void setAttachments(Integer attachments) {
+        this.attachments = attachments;
+    }
+
+    @JsonProperty("comments")
+    public Integer getComments() {
+        return comments;
+    }
+
+    @JsonProperty("comments")
+    public void setComments(Integer comments) {
+        this.comments = comments;
+    }
+
+    @JsonProperty("checkItems")
+    public Integer getCheckItems() {
+        return checkItems;
+    }
+
+    @JsonProperty("checkItems")
+    public void setCheckItems(Integer checkItems) {
+        this.checkItems = checkItems;
+    }
+
+    @JsonProperty("checkItemsChecked")
+    public Integer getCheckItemsChecked() {
+        return checkItemsChecked;
+    }
+
+    @JsonProperty("checkItemsChecked")
+    public void setCheckItemsChecked(Integer checkItemsChecked) {
+        this.checkItemsChecked = checkItemsChecked;
+    }
+
+    @JsonProperty("description")
+    public Boolean getDescription() {
+        return description;
+    }
+
+    @JsonProperty("description")
+    public void setDescription(Boolean description) {
+        this.description = description;
+    }
+
+    @JsonProperty("subscribed")
+    public Boolean getSubscribed() {
+        return subscribed;
+    }
+
+    @JsonProperty("subscribed")
+    public void setSubscribed(Boolean subscribed) {
+        this.subscribed = subscribed;
+    }
+
+    @JsonProperty("votes")
+    public Integer getVotes() {
+        return votes;
+    }
+
+    @JsonProperty("votes")
+    public void setVotes(Integer votes) {
+        this.votes = votes;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(Badges.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("attachments");
+        sb.append('=');
+        sb.append(((this.attachments == null)?"<null>":this.attachments));
+        sb.append(',');
+        sb.append("comments");
+        sb.append('=');
+        sb.append(((this.comments == null)?"<null>":this.comments));
+        sb.append(',');
+        sb.append("checkItems");
+        sb.append('=');
+        sb.append(((this.checkItems == null)?"<null>":this.checkItems));
+        sb.append(',');
+        sb.append("checkItemsChecked");
+        sb.append('=');
+        sb.append(((this.checkItemsChecked == null)?"<null>":this.checkItemsChecked));
+        sb.append(',');
+        sb.append("description");
+        sb.append('=');
+        sb.append(((this.description == null)?"<null>":this.description));
+        sb.append(',');
+        sb.append("subscribed");
+        sb.append('=');
+        sb.append(((this.subscribed == null)?"<null>":this.subscribed));
+        sb.append(',');
+        sb.append("votes");
+        sb.append('=');
+        sb.append(((this.votes == null)?"<null>":this.votes));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.subscribed == null)? 0 :this.subscribed.hashCode()));
+        result = ((result* 31)+((this.attachments == null)? 0 :this.attachments.hashCode()));
+        result = ((result* 31)+((this.comments == null)? 0 :this.comments.hashCode()));
+        result = ((result* 31)+((this.description == null)? 0 :this.description.hashCode()));
+        result = ((result* 31)+((this.votes == null)? 0 :this.votes.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        result = ((result* 31)+((this.checkItems == null)? 0 :this.checkItems.hashCode()));
+        result = ((result* 31)+((this.checkItemsChecked == null)? 0 :this.checkItemsChecked.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof Badges) == false) {
+            return false;
+        }
+        Badges rhs = ((Badges) other);
+        return (((((((((this.subscribed == rhs.subscribed)||((this.subscribed!= null)&&this.subscribed.equals(rhs.subscribed)))&&((this.attachments == rhs.attachments)||((this.attachments!= null)&&this.attachments.equals(rhs.attachments))))&&((this.comments == rhs.comments)||((this.comments!= null)&&this.comments.equals(rhs.comments))))&&((this.description == rhs.description)||((this.description!= null)&&this.description.equals(rhs.description))))&&((this.votes == rhs.votes)||((this.votes!= null)&&this.votes.equals(rhs.votes))))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))))&&((this.checkItems == rhs.checkItems)||((this.checkItems!= null)&&this.checkItems.equals(rhs.checkItems))))&&((this.checkItemsChecked == rhs.checkItemsChecked)||((this.checkItemsChecked!= null)&&this.checkItemsChecked.equals(rhs.checkItemsChecked))));
+    }
+
+}
@@ -0,0 +1,246 @@
+
+package beans;
+
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "id",
+    "bytes",
+    "date",
+    "edgeColor",
+    "idMember",
+    "isUpload",
+    "mimeType",
+    "name",
+    "pos",
+    "url"
+})
+public class TrelloAttachment {
+
+    @JsonProperty("id")
+    private String id;
+    @JsonProperty("bytes")
+    private Object bytes;
+    @JsonProperty("date")
+    private String date;
+    @JsonProperty("edgeColor")
+    private Object edgeColor;
+    @JsonProperty("idMember")
+    private String idMember;
+    @JsonProperty("isUpload")
+    private Boolean isUpload;
+    @JsonProperty("mimeType")
+    private String mimeType;
+    @JsonProperty("name")
+    private String name;
+    @JsonProperty("pos")
+    private Double pos;
+    @JsonProperty("url")
+    private String url;
+    @JsonIgnore
+    private Map<String, Object> additionalProperties = new HashMap<String, Object>();
+
+    @JsonProperty("id")
+    public String getId() {
+        return id;
+    }
+
+    @JsonProperty("id")
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @JsonProperty("bytes")
+    public Object getBytes() {
+        return bytes;
+    }
+
+    @JsonProperty("bytes")
+    public void setBytes(Object bytes) {
+        this.bytes = bytes;
+    }
+
+    @JsonProperty("date")
+    public String getDate() {
+        return date;
+    }
+
+    @JsonProperty("date")
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    @JsonProperty("edgeColor")
+    public Object getEdgeColor() {
+        return edgeColor;
+    }
+
+    @JsonProperty("edgeColor")
+    public void setEdgeColor(Object edgeColor) {
+        this.edgeColor = edgeColor;
+    }
+
+    @JsonProperty("idMember")
+    public String getIdMember() {
+        return idMember;
+    }
+
+    @JsonProperty("idMember")
+    public void setIdMember(String idMember) {
+        this.idMember = idMember;
+    }
+
+    @JsonProperty("isUpload")
+    public Boolean getIsUpload() {
+        return isUpload;
+    }
+
+    @JsonProperty("isUpload")
+    public void setIsUpload(Boolean isUpload) {
+        this.isUpload = isUpload;
+    }
+
+    @JsonProperty("mimeType")
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    @JsonProperty("mimeType")
+    public void setMimeType(String mimeType) {
+        this.mimeType = mimeType;
+    }
+
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    @JsonProperty("name")
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @JsonProperty("pos")
+    public Double getPos() {
+        return pos;
+    }
+
+    @JsonProperty("pos")
+    public void setPos(Double pos) {
+        this.pos = pos;
+    }
+
+    @JsonProperty("url")
+    public String getUrl() {
+        return url;
+    }
+
+    @JsonProperty("url")
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(TrelloAttachment.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("id");
+        sb.append('=');
+        sb.append(((this.id == null)?"<null>":this.id));
+        sb.append(',');
+        sb.append("bytes");
+        sb.append('=');
+        sb.append(((this.bytes == null)?"<null>":this.bytes));
+        sb.append(',');
+        sb.append("date");
+        sb.append('=');
+        sb.append(((this.date == null)?"<null>":this.date));
+        sb.append(',');
+        sb.append("edgeColor");
+        sb.append('=');
+        sb.append(((this.edgeColor == null)?"<null>":this.edgeColor));
+        sb.append(',');
+        sb.append("idMember");
+        sb.append('=');
+        sb.append(((this.idMember == null)?"<null>":this.idMember));
+        sb.append(',');
+        sb.append("isUpload");
+        sb.append('=');
+        sb.append(((this.isUpload == null)?"<null>":this.isUpload));
+        sb.append(',');
+        sb.append("mimeType");
+        sb.append('=');
+        sb.append(((this.mimeType == null)?"<null>":this.mimeType));
+        sb.append(',');
+        sb.append("name");
+        sb.append('=');
+        sb.append(((this.name == null)?"<null>":this.name));
+        sb.append(',');
+        sb.append("pos");
+        sb.append('=');
+        sb.append(((this.pos == null)?"<null>":this.pos));
+        sb.append(',');
+        sb.append("url");
+        sb.append('=');
+        sb.append(((this.url == null)?"<null>":this.url));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.date == null)? 0 :this.date.hashCode()));
+        result = ((result* 31)+((this.edgeColor == null)? 0 :this.edgeColor.hashCode()));
+        result = ((result* 31)+((this.pos == null)? 0 :this.pos.hashCode()));
+        result = ((result* 31)+((this.bytes == null)? 0 :this.bytes.hashCode()));
+        result = ((result* 31)+((this.idMember == null)? 0 :this.idMember.hashCode()));
+        result = ((result* 31)+((this.name == null)? 0 :this.name.hashCode()));
+        result = ((result* 31)+((this.id == null)? 0 :this.id.hashCode()));
+        result = ((result* 31)+((this.isUpload == null)? 0 :this.isUpload.hashCode()));
+        result = ((result* 31)+((this.mimeType == null)? 0 :this.mimeType.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        result = ((result* 31)+((this.url == null)? 0 :this.url.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof TrelloAttachment) == false) {
+            return false;
+        }
+        TrelloAttachment rhs = ((TrelloAttachment) other);
+        return ((((((((((((this.date == rhs.date)||((this.date!= null)&&this.date.equals(rhs.date)))&&((this.edgeColor == rhs.edgeColor)||((this.edgeColor!= null)&&this.edgeColor.equals(rhs.edgeColor))))&&((this.pos == rhs.pos)||((this.pos!= null)&&this.pos.equals(rhs.pos))))&&((this.bytes == rhs.bytes)||((this.bytes!= null)&&this.bytes.equals(rhs.bytes))))&&((this.idMember == rhs.idMember)||((this.idMember!= null)&&this.idMember.equals(rhs.idMember))))&&((this.name == rhs.name)||((this.name!= null)&&this.name.equals(rhs.name))))&&((this.id == rhs.id)||((this.id!= null)&&this.id.equals(rhs.id))))&&((this.isUpload == rhs.isUpload)||((this.isUpload!= null)&&this.isUpload.equals(rhs.isUpload))))&&((this.mimeType == rhs.mimeType)||((this.mimeType!= null)&&this.mimeType.equals(rhs.mimeType))))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))))&&((this.url == rhs.url)||((this.url!= null)&&this.url.equals(rhs.url))));
+    }
+
+}
@@ -0,0 +1,392 @@
+
+package beans;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "id",
+    "badges",
+    "closed",
+    "dateLastActivity",
+    "desc",
+    "due",
+    "dueComplete",
+    "idBoard",
+    "idList",
+    "idMembers",
+    "idLabels",
+    "idShort",
+    "name",
+    "pos",
+    "shortLink",
+    "shortUrl",
+    "start",
+    "url"
+})
+public class TrelloCard {
+
+    @JsonProperty("id")
+    private String id;
+    @JsonProperty("badges")
+    private Badges badges;
+    @JsonProperty("closed")
+    private Boolean closed;
+    @JsonProperty("dateLastActivity")
+    private String dateLastActivity;
+    @JsonProperty("desc")
+    private String desc;
+    @JsonProperty("due")
+    private Object due;
+    @JsonProperty("dueComplete")
+    private Boolean dueComplete;
+    @JsonProperty("idBoard")
+    private String idBoard;
+    @JsonProperty("idList")
+    private String idList;
+    @JsonProperty("idMembers")
+    private List<Object> idMembers = new ArrayList<Object>();
+    @JsonProperty("idLabels")
+    private List<Object> idLabels = new ArrayList<Object>();
+    @JsonProperty("idShort")
+    private Integer idShort;
+    @JsonProperty("name")
+    private String name;
+    @JsonProperty("pos")
+    private Double pos;
+    @JsonProperty("shortLink")
+    private String shortLink;
+    @JsonProperty("shortUrl")
+    private String shortUrl;
+    @JsonProperty("start")
+    private Object start;
+    @JsonProperty("url")
+    private String url;
+    @JsonIgnore
+    private Map<String, Object> additionalProperties = new HashMap<String, Object>();
+
+    @JsonProperty("id")
+    public String getId() {
+        return id;
+    }
+
+    @JsonProperty("id")
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @JsonProperty("badges")
+    public Badges getBadges() {
+        return badges;
+    }
+
+    @JsonProperty("badges")
+    public void setBadges(Badges badges) {
+        this.badges = badges;
+    }
+
+    @JsonProperty("closed")
+    public Boolean getClosed() {
+        return closed;
+    }
+
+    @JsonProperty("closed")
+    public void setClosed(Boolean closed) {
+        this.closed = closed;
+    }
+
+    @JsonProperty("dateLastActivity")
+    public String getDateLastActivity() {
+        return dateLastActivity;
+    }
+
+    @JsonProperty("dateLastActivity")
+    public void setDateLastActivity(String dateLastActivity) {
+        this.dateLastActivity = dateLastActivity;
+    }
+
+    @JsonProperty("desc")
+    public String getDesc() {
+        return desc;
+    }
+
+    @JsonProperty("desc")
+    public void setDesc(String desc) {
+        this.desc = desc;
+    }
+
+    @JsonProperty("due")
+    public Object getDue() {
+        return due;
+    }
+
+    @JsonProperty("due")
+    public void setDue(Object due) {
+        this.due = due;
+    }
+
+    @JsonProperty("dueComplete")
+    public Boolean getDueComplete() {
+        return dueComplete;
+    }
+
+    @JsonProperty("dueComplete")
+    public void setDueComplete(Boolean dueComplete) {
+        this.dueComplete = dueComplete;
+    }
+
+    @JsonProperty("idBoard")
+    public String getIdBoard() {
+        return idBoard;
+    }
+
+    @JsonProperty("idBoard")
+    public void setIdBoard(String idBoard) {
+        this.idBoard = idBoard;
+    }
+
+    @JsonProperty("idList")
+    public String getIdList() {
+        return idList;
+    }
+
+    @JsonProperty("idList")
+    public void setIdList(String idList) {
+        this.idList = idList;
+    }
+
+    @JsonProperty("idMembers")
+    public List<Object> getIdMembers() {
+        return idMembers;
+    }
+
+    @JsonProperty("idMembers")
+    public void setIdMembers(List<Object> idMembers) {
+        this.idMembers = idMembers;
+    }
+
+    @JsonProperty("idLabels")
+    public List<Object> getIdLabels() {
+        return idLabels;
+    }
+
+    @JsonProperty("idLabels")
+    public void setIdLabels(List<Object> idLabels) {
+        this.idLabels = idLabels;
+    }
+
+    @JsonProperty("idShort")
+    public Integer getIdShort() {
+        return idShort;
+    }
+
+    @JsonProperty("idShort")
+    public void setIdShort(Integer idShort) {
+        this.idShort = idShort;
+    }
+
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    @JsonProperty("name")
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @JsonProperty("pos")
+    public Double getPos() {
+        return pos;
+    }
+
+    @JsonProperty("pos")
+    public void setPos(Double pos) {
+        this.pos = pos;
+    }
+
+    @JsonProperty("shortLink")
+    public String getShortLink() {
+        return shortLink;
+    }
+
+    @JsonProperty("shortLink")
+    public void setShortLink(String shortLink) {
+        this.shortLink = shortLink;
+    }
+
+    @JsonProperty("shortUrl")
+    public String getShortUrl() {
+        return shortUrl;
+    }
+
+    @JsonProperty("shortUrl")
+    public void setShortUrl(String shortUrl) {
+        this.shortUrl = shortUrl;
+    }
+
+    @JsonProperty("start")
+    public Object getStart() {
+        return start;
+    }
+
+    @JsonProperty("start")
+    public void setStart(Object start) {
+        this.start = start;
+    }
+
+    @JsonProperty("url")
+    public String getUrl() {
+        return url;
+    }
+
+    @JsonProperty("url")
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(TrelloCard.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("id");
+        sb.append('=');
+        sb.append(((this.id == null)?"<null>":this.id));
+        sb.append(',');
+        sb.append("badges");
+        sb.append('=');
+        sb.append(((this.badges == null)?"<null>":this.badges));
+        sb.append(',');
+        sb.append("closed");
+        sb.append('=');
+        sb.append(((this.closed == null)?"<null>":this.closed));
+        sb.append(',');
+        sb.append("dateLastActivity");
+        sb.append('=');
+        sb.append(((this.dateLastActivity == null)?"<null>":this.dateLastActivity));
+        sb.append(',');
+        sb.append("desc");
+        sb.append('=');
+        sb.append(((this.desc == null)?"<null>":this.desc));
+        sb.append(',');
+        sb.append("due");
+        sb.append('=');
+        sb.append(((this.due == null)?"<null>":this.due));
+        sb.append(',');
+        sb.append("dueComplete");
+        sb.append('=');
+        sb.append(((this.dueComplete == null)?"<null>":this.dueComplete));
+        sb.append(',');
+        sb.append("idBoard");
+        sb.append('=');
+        sb.append(((this.idBoard == null)?"<null>":this.idBoard));
+        sb.append(',');
+        sb.append("idList");
+        sb.append('=');
+        sb.append(((this.idList == null)?"<null>":this.idList));
+        sb.append(',');
+        sb.append("idMembers");
+        sb.append('=');
+        sb.append(((this.idMembers == null)?"<null>":this.idMembers));
+        sb.append(',');
+        sb.append("idLabels");
+        sb.append('=');
+        sb.append(((this.idLabels == null)?"<null>":this.idLabels));
+        sb.append(',');
+        sb.append("idShort");
+        sb.append('=');
+        sb.append(((this.idShort == null)?"<null>":this.idShort));
+        sb.append(',');
+        sb.append("name");
+        sb.append('=');
+        sb.append(((this.name == null)?"<null>":this.name));
+        sb.append(',');
+        sb.append("pos");
+        sb.append('=');
+        sb.append(((this.pos == null)?"<null>":this.pos));
+        sb.append(',');
+        sb.append("shortLink");
+        sb.append('=');
+        sb.append(((this.shortLink == null)?"<null>":this.shortLink));
+        sb.append(',');
+        sb.append("shortUrl");
+        sb.append('=');
+        sb.append(((this.shortUrl == null)?"<null>":this.shortUrl));
+        sb.append(',');
+        sb.append("start");
+        sb.append('=');
+        sb.append(((this.start == null)?"<null>":this.start));
+        sb.append(',');
+        sb.append("url");
+        sb.append('=');
+        sb.append(((this.url == null)?"<null>":this.url));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.idBoard == null)? 0 :this.idBoard.hashCode()));
+        result = ((result* 31)+((this.idLabels == null)? 0 :this.idLabels.hashCode()));
+        result = ((result* 31)+((this.shortUrl == null)? 0 :this.shortUrl.hashCode()));
+        result = ((result* 31)+((this.dueComplete == null)? 0 :this.dueComplete.hashCode()));
+        result = ((result* 31)+((this.start == null)? 0 :this.start.hashCode()));
+        result = ((result* 31)+((this.dateLastActivity == null)? 0 :this.dateLastActivity.hashCode()));
+        result = ((result* 31)+((this.idList == null)? 0 :this.idList.hashCode()));
+        result = ((result* 31)+((this.shortLink == null)? 0 :this.shortLink.hashCode()));
+        result = ((result* 31)+((this.url == null)? 0 :this.url.hashCode()));
+        result = ((result* 31)+((this.badges == null)? 0 :this.badges.hashCode()));
+        result = ((result* 31)+((this.idMembers == null)? 0 :this.idMembers.hashCode()));
+        result = ((result* 31)+((this.idShort == null)? 0 :this.idShort.hashCode()));
+        result = ((result* 31)+((this.due == null)? 0 :this.due.hashCode()));
+        result = ((result* 31)+((this.pos == null)? 0 :this.pos.hashCode()));
+        result = ((result* 31)+((this.name == null)? 0 :this.name.hashCode()));
+        result = ((result* 31)+((this.closed == null)? 0 :this.closed.hashCode()));
+        result = ((result* 31)+((this.id == null)? 0 :this.id.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        result = ((result* 31)+((this.desc == null)? 0 :this.desc.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof TrelloCard) == false) {
+            return false;
+        }
+        TrelloCard rhs = ((TrelloCard) other);
+        return ((((((((((((((((((((this.idBoard == rhs.idBoard)||((this.idBoard!= null)&&this.idBoard.equals(rhs.idBoard)))&&((this.idLabels == rhs.idLabels)||((this.idLabels!= null)&&this.idLabels.equals(rhs.idLabels))))&&((this.shortUrl == rhs.shortUrl)||((this.shortUrl!= null)&&this.shortUrl.equals(rhs.shortUrl))))&&((this.dueComplete == rhs.dueComplete)||((this.dueComplete!= null)&&this.dueComplete.equals(rhs.dueComplete))))&&((this.start == rhs.start)||((this.start!= null)&&this.start.equals(rhs.start))))&&((this.dateLastActivity == rhs.dateLastActivity)||((this.dateLastActivity!= null)&&this.dateLastActivity.equals(rhs.dateLastActivity))))&&((this.idList == rhs.idList)||((this.idList!= null)&&this.idList.equals(rhs.idList))))&&((this.shortLink == rhs.shortLink)||((this.shortLink!= null)&&this.shortLink.equals(rhs.shortLink))))&&((this.url == rhs.url)||((this.url!= null)&&this.url.equals(rhs.url))))&&((this.badges == rhs.badges)||((this.badges!= null)&&this.badges.equals(rhs.badges))))&&((this.idMembers == rhs.idMembers)||((this.idMembers!= null)&&this.idMembers.equals(rhs.idMembers))))&&((this.idShort == rhs.idShort)||((this.idShort!= null)&&this.idShort.equals(rhs.idShort))))&&((this.due == rhs.due)||((this.due!= null)&&this.due.equals(rhs.due))))&&((this.pos == rhs.pos)||((this.pos!= null)&&this.pos.equals(rhs.pos))))&&((this.name == rhs.name)||((this.name!= null)&&this.name.equals(rhs.name))))&&((this.closed == rhs.closed)||((this.closed!= null)&&this.closed.equals(rhs.closed))))&&((this.id == rhs.id)||((this.id!= null)&&this.id.equals(rhs.id))))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))))&&((this.desc == rhs.desc)||((this.desc!= null)&&this.desc.equals(rhs.desc))));
+    }
+
+}
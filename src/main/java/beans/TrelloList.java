@@ -0,0 +1,192 @@
+
+package beans;
+
+import java.util.HashMap;
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({
+    "id",
+    "name",
+    "closed",
+    "idBoard",
+    "pos",
+    "subscribed",
+    "softLimit"
+})
+public class TrelloList {
+
+    @JsonProperty("id")
+    private String id;
+    @JsonProperty("name")
+    private String name;
+    @JsonProperty("closed")
+    private Boolean closed;
+    @JsonProperty("idBoard")
+    private String idBoard;
+    @JsonProperty("pos")
+    private Double pos;
+    @JsonProperty("subscribed")
+    private Boolean subscribed;
+    @JsonProperty("softLimit")
+    private Object softLimit;
+    @JsonIgnore
+    private Map<String, Object> additionalProperties = new HashMap<String, Object>();
+
+    @JsonProperty("id")
+    public String getId() {
+        return id;
+    }
+
+    @JsonProperty("id")
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @JsonProperty("name")
+    public String getName() {
+        return name;
+    }
+
+    @JsonProperty("name")
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @JsonProperty("closed")
+    public Boolean getClosed() {
+        return closed;
+    }
+
+    @JsonProperty("closed")
+    public void setClosed(Boolean closed) {
+        this.closed = closed;
+    }
+
+    @JsonProperty("idBoard")
+    public String getIdBoard() {
+        return idBoard;
+    }
+
+    @JsonProperty("idBoard")
+    public void setIdBoard(String idBoard) {
+        this.idBoard = idBoard;
+    }
+
+    @JsonProperty("pos")
+    public Double getPos() {
+        return pos;
+    }
+
+    @JsonProperty("pos")
+    public void setPos(Double pos) {
+        this.pos = pos;
+    }
+
+    @JsonProperty("subscribed")
+    public Boolean getSubscribed() {
+        return subscribed;
+    }
+
+    @JsonProperty("subscribed")
+    public void setSubscribed(Boolean subscribed) {
+        this.subscribed = subscribed;
+    }
+
+    @JsonProperty("softLimit")
+    public Object getSoftLimit() {
+        return softLimit;
+    }
+
+    @JsonProperty("softLimit")
+    public void setSoftLimit(Object softLimit) {
+        this.softLimit = softLimit;
+    }
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalProperties() {
+        return this.additionalProperties;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalProperty(String name, Object value) {
+        this.additionalProperties.put(name, value);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(TrelloList.class.getName()).append('@').append(Integer.toHexString(System.identityHashCode(this))).append('[');
+        sb.append("id");
+        sb.append('=');
+        sb.append(((this.id == null)?"<null>":this.id));
+        sb.append(',');
+        sb.append("name");
+        sb.append('=');
+        sb.append(((this.name == null)?"<null>":this.name));
+        sb.append(',');
+        sb.append("closed");
+        sb.append('=');
+        sb.append(((this.closed == null)?"<null>":this.closed));
+        sb.append(',');
+        sb.append("idBoard");
+        sb.append('=');
+        sb.append(((this.idBoard == null)?"<null>":this.idBoard));
+        sb.append(',');
+        sb.append("pos");
+        sb.append('=');
+        sb.append(((this.pos == null)?"<null>":this.pos));
+        sb.append(',');
+        sb.append("subscribed");
+        sb.append('=');
+        sb.append(((this.subscribed == null)?"<null>":this.subscribed));
+        sb.append(',');
+        sb.append("softLimit");
+        sb.append('=');
+        sb.append(((this.softLimit == null)?"<null>":this.softLimit));
+        sb.append(',');
+        sb.append("additionalProperties");
+        sb.append('=');
+        sb.append(((this.additionalProperties == null)?"<null>":this.additionalProperties));
+        sb.append(',');
+        if (sb.charAt((sb.length()- 1)) == ',') {
+            sb.setCharAt((sb.length()- 1), ']');
+        } else {
+            sb.append(']');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        result = ((result* 31)+((this.subscribed == null)? 0 :this.subscribed.hashCode()));
+        result = ((result* 31)+((this.idBoard == null)? 0 :this.idBoard.hashCode()));
+        result = ((result* 31)+((this.pos == null)? 0 :this.pos.hashCode()));
+        result = ((result* 31)+((this.name == null)? 0 :this.name.hashCode()));
+        result = ((result* 31)+((this.closed == null)? 0 :this.closed.hashCode()));
+        result = ((result* 31)+((this.id == null)? 0 :this.id.hashCode()));
+        result = ((result* 31)+((this.additionalProperties == null)? 0 :this.additionalProperties.hashCode()));
+        result = ((result* 31)+((this.softLimit == null)? 0 :this.softLimit.hashCode()));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if ((other instanceof TrelloList) == false) {
+            return false;
+        }
+        TrelloList rhs = ((TrelloList) other);
+        return (((((((((this.subscribed == rhs.subscribed)||((this.subscribed!= null)&&this.subscribed.equals(rhs.subscribed)))&&((this.idBoard == rhs.idBoard)||((this.idBoard!= null)&&this.idBoard.equals(rhs.idBoard))))&&((this.pos == rhs.pos)||((this.pos!= null)&&this.pos.equals(rhs.pos))))&&((this.name == rhs.name)||((this.name!= null)&&this.name.equals(rhs.name))))&&((this.closed == rhs.closed)||((this.closed!= null)&&this.closed.equals(rhs.closed))))&&((this.id == rhs.id)||((this.id!= null)&&this.id.equals(rhs.id))))&&((this.additionalProperties == rhs.additionalProperties)||((this.additionalProperties!= null)&&this.additionalProperties.equals(rhs.additionalProperties))))&&((this.softLimit == rhs.softLimit)||((this.softLimit!= null)&&this.softLimit.equals(rhs.softLimit))));
+    }
+
+}
@@ -0,0 +1,385 @@
+package codegen;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Generates a streaming Jackson codec, {@code <Bean>Codec}, for every jsonschema2pojo bean (the classes annotated
+ * with {@code @JsonPropertyOrder}) and one {@code BeanCodecs} module per package that registers them. The codecs read
+ * and write the {@code @JsonProperty} fields through their accessors with a plain switch on the field name, and
+ * round-trip everything else through the {@code @JsonAnySetter}/{@code @JsonAnyGetter} pair, so no bean is
+ * introspected at runtime.
+ *
+ * <p>Compiled ahead of the main sources by the {@code codegen} compiler execution in the pom.
+ */
+@SupportedAnnotationTypes(BeanCodecProcessor.PROPERTY_ORDER)
+public class BeanCodecProcessor extends AbstractProcessor {
+    static final String PROPERTY_ORDER = "com.fasterxml.jackson.annotation.JsonPropertyOrder";
+    private static final String PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String ANY_SETTER = "com.fasterxml.jackson.annotation.JsonAnySetter";
+    private static final String ANY_GETTER = "com.fasterxml.jackson.annotation.JsonAnyGetter";
+    private static final String INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Map<String, List<Bean>> packages = new TreeMap<>();
+        for (TypeElement annotation : annotations) {
+            for (TypeElement type : ElementFilter.typesIn(round.getElementsAnnotatedWith(annotation))) {
+                Bean bean = Bean.of(type);
+                packages.computeIfAbsent(bean.packageName, name -> new ArrayList<>()).add(bean);
+            }
+        }
+        try {
+            for (Map.Entry<String, List<Bean>> entry : packages.entrySet()) {
+                for (Bean bean : entry.getValue()) {
+                    write(bean.packageName + "." + bean.simpleName + "Codec", bean.codec(), bean.type);
+                }
+                write(entry.getKey() + ".BeanCodecs", module(entry.getKey(), entry.getValue()),
+                    entry.getValue().stream().map(bean -> bean.type).toArray(Element[]::new));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return false;
+    }
+
+    private void write(String name, String source, Element... origins) throws IOException {
+        try (Writer writer = processingEnv.getFiler().createSourceFile(name, origins).openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    private static String module(String packageName, List<Bean> beans) {
+        StringBuilder registrations = new StringBuilder();
+        for (Bean bean : beans) {
+            registrations.append("        module.addDeserializer(").append(bean.simpleName).append(".class, new ")
+                .append(bean.simpleName).append("Codec.Deserializer());\n")
+                .append("        module.addSerializer(").append(bean.simpleName).append(".class, new ")
+                .append(bean.simpleName).append("Codec.Serializer());\n");
+        }
+        return "package " + packageName + ";\n\n"
+            + "import com.fasterxml.jackson.databind.module.SimpleModule;\n\n"
+            + "@javax.annotation.processing.Generated(\"" + BeanCodecProcessor.class.getName() + "\")\n"
+            + "public final class BeanCodecs {\n\n"
+            + "    private BeanCodecs() {\n    }\n\n"
+            + "    public static SimpleModule module() {\n"
+            + "        SimpleModule module = new SimpleModule(\"" + packageName + ".BeanCodecs\");\n"
+            + registrations
+            + "        return module;\n"
+            + "    }\n"
+            + "}\n";
+    }
+
+    private static String annotationValue(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().toString().equals(annotation)) {
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                    : mirror.getElementValues().entrySet()) {
+                    if (value.getKey().getSimpleName().contentEquals("value")) {
+                        return String.valueOf(value.getValue().getValue());
+                    }
+                }
+                return "";
+            }
+        }
+        return null;
+    }
+
+    private static final class Property {
+        final String json;
+        final String type;
+        final String getter;
+        final String setter;
+        final int index;
+
+        Property(String json, String type, String getter, String setter, int index) {
+            this.json = json;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+            this.index = index;
+        }
+
+        /**
+         * Scalars with a direct token mapping are read inline; everything else goes through a deserializer
+         * resolved once per codec.
+         */
+        boolean resolved() {
+            switch (type) {
+                case "java.lang.String":
+                case "java.lang.Boolean":
+                case "java.lang.Integer":
+                case "java.lang.Long":
+                case "java.lang.Double":
+                    return false;
+                default:
+                    return true;
+            }
+        }
+
+        String read() {
+            switch (type) {
+                case "java.lang.String":
+                    return "t == JsonToken.VALUE_STRING ? p.getText() : t == JsonToken.VALUE_NULL ? null"
+                        + " : ctxt.readValue(p, String.class)";
+                case "java.lang.Boolean":
+                    return "t == JsonToken.VALUE_TRUE ? Boolean.TRUE : t == JsonToken.VALUE_FALSE ? Boolean.FALSE"
+                        + " : t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Boolean.class)";
+                case "java.lang.Integer":
+                    return "t == JsonToken.VALUE_NUMBER_INT ? Integer.valueOf(p.getIntValue())"
+                        + " : t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Integer.class)";
+                case "java.lang.Long":
+                    return "t == JsonToken.VALUE_NUMBER_INT ? Long.valueOf(p.getLongValue())"
+                        + " : t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Long.class)";
+                case "java.lang.Double":
+                    return "t == JsonToken.VALUE_NUMBER_INT || t == JsonToken.VALUE_NUMBER_FLOAT"
+                        + " ? Double.valueOf(p.getDoubleValue())"
+                        + " : t == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Double.class)";
+                default:
+                    return "t == JsonToken.VALUE_NULL ? null : (" + type + ") property" + index
+                        + ".deserialize(p, ctxt)";
+            }
+        }
+
+        String write() {
+            switch (type) {
+                case "java.lang.String":
+                    return "g.writeFieldName(NAME_" + index + ");\n                g.writeString(value" + index + ");";
+                case "java.lang.Boolean":
+                    return "g.writeFieldName(NAME_" + index + ");\n                g.writeBoolean(value" + index
+                        + ");";
+                case "java.lang.Integer":
+                case "java.lang.Long":
+                case "java.lang.Double":
+                    return "g.writeFieldName(NAME_" + index + ");\n                g.writeNumber(value" + index
+                        + ");";
+                default:
+                    return "g.writeFieldName(NAME_" + index + ");\n                provider.defaultSerializeValue(value"
+                        + index + ", g);";
+            }
+        }
+    }
+
+    private static final class Bean {
+        final TypeElement type;
+        final String packageName;
+        final String simpleName;
+        final List<Property> properties;
+        final String anySetter;
+        final String anyGetter;
+        final boolean nonNull;
+
+        private Bean(TypeElement type, String packageName, List<Property> properties, String anySetter,
+                     String anyGetter, boolean nonNull) {
+            this.type = type;
+            this.packageName = packageName;
+            this.simpleName = type.getSimpleName().toString();
+            this.properties = properties;
+            this.anySetter = anySetter;
+            this.anyGetter = anyGetter;
+            this.nonNull = nonNull;
+        }
+
+        static Bean of(TypeElement type) {
+            Map<String, String> getters = new LinkedHashMap<>();
+            Map<String, String> setters = new LinkedHashMap<>();
+            String anySetter = null;
+            String anyGetter = null;
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                String json = annotationValue(method, PROPERTY);
+                String name = method.getSimpleName().toString();
+                if (json != null) {
+                    (method.getParameters().isEmpty() ? getters : setters).put(json, name);
+                } else if (annotationValue(method, ANY_SETTER) != null) {
+                    anySetter = name;
+                } else if (annotationValue(method, ANY_GETTER) != null) {
+                    anyGetter = name;
+                }
+            }
+            List<Property> properties = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                String json = annotationValue(field, PROPERTY);
+                if (json != null && getters.containsKey(json) && setters.containsKey(json)) {
+                    properties.add(new Property(json, field.asType().toString(), getters.get(json),
+                        setters.get(json), properties.size()));
+                }
+            }
+            String include = annotationValue(type, INCLUDE);
+            Element owner = type.getEnclosingElement();
+            while (owner.getKind() != ElementKind.PACKAGE) {
+                owner = owner.getEnclosingElement();
+            }
+            return new Bean(type, owner.toString(), properties, anySetter, anyGetter,
+                include != null && include.endsWith("NON_NULL"));
+        }
+
+        String codec() {
+            StringWriter source = new StringWriter();
+            PrintWriter out = new PrintWriter(source);
+            out.println("package " + packageName + ";");
+            out.println();
+            out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+            out.println("import com.fasterxml.jackson.core.JsonParser;");
+            out.println("import com.fasterxml.jackson.core.JsonToken;");
+            out.println("import com.fasterxml.jackson.core.io.SerializedString;");
+            out.println("import com.fasterxml.jackson.databind.DeserializationContext;");
+            out.println("import com.fasterxml.jackson.databind.JsonDeserializer;");
+            out.println("import com.fasterxml.jackson.databind.SerializerProvider;");
+            out.println("import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;");
+            out.println("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;");
+            out.println("import com.fasterxml.jackson.databind.ser.std.StdSerializer;");
+            out.println("import java.io.IOException;");
+            out.println("import java.util.Map;");
+            out.println();
+            out.println("/**");
+            out.println(" * Streaming codec for {@link " + simpleName + "}, generated from its Jackson annotations.");
+            out.println(" */");
+            out.println("@javax.annotation.processing.Generated(\"" + BeanCodecProcessor.class.getName() + "\")");
+            out.println("public final class " + simpleName + "Codec {");
+            for (Property property : properties) {
+                out.println("    private static final SerializedString NAME_" + property.index
+                    + " = new SerializedString(\"" + property.json + "\");");
+            }
+            out.println();
+            out.println("    private " + simpleName + "Codec() {");
+            out.println("    }");
+            out.println();
+            deserializer(out);
+            out.println();
+            serializer(out);
+            out.println("}");
+            out.flush();
+            return source.toString();
+        }
+
+        private void deserializer(PrintWriter out) {
+            out.println("    public static final class Deserializer extends StdDeserializer<" + simpleName + ">");
+            out.println("        implements ResolvableDeserializer {");
+            if (anySetter != null) {
+                out.println("        private JsonDeserializer<Object> additional;");
+            }
+            for (Property property : properties) {
+                if (property.resolved()) {
+                    out.println("        private JsonDeserializer<Object> property" + property.index + ";");
+                }
+            }
+            out.println();
+            out.println("        public Deserializer() {");
+            out.println("            super(" + simpleName + ".class);");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.println("        public void resolve(DeserializationContext ctxt) throws com.fasterxml.jackson.databind"
+                + ".JsonMappingException {");
+            if (anySetter != null) {
+                out.println("            additional = ctxt.findRootValueDeserializer(ctxt.constructType(Object.class));");
+            }
+            for (Property property : properties) {
+                if (property.resolved()) {
+                    out.println("            property" + property.index + " = ctxt.findRootValueDeserializer("
+                        + "ctxt.getTypeFactory().constructFromCanonical(\"" + property.type + "\"));");
+                }
+            }
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            if (properties.stream().anyMatch(property -> property.resolved() && property.type.contains("<"))) {
+                // resolved deserializers are untyped, so reading a parameterized property is an unchecked cast
+                out.println("        @SuppressWarnings(\"unchecked\")");
+            }
+            out.println("        public " + simpleName + " deserialize(JsonParser p, DeserializationContext ctxt)"
+                + " throws IOException {");
+            out.println("            JsonToken t = p.currentToken();");
+            out.println("            if (t == JsonToken.START_OBJECT) {");
+            out.println("                t = p.nextToken();");
+            out.println("            } else if (t != JsonToken.FIELD_NAME && t != JsonToken.END_OBJECT) {");
+            out.println("                return (" + simpleName + ") ctxt.handleUnexpectedToken(" + simpleName
+                + ".class, p);");
+            out.println("            }");
+            out.println("            " + simpleName + " bean = new " + simpleName + "();");
+            out.println("            for (; t == JsonToken.FIELD_NAME; t = p.nextToken()) {");
+            out.println("                String name = p.currentName();");
+            out.println("                t = p.nextToken();");
+            out.println("                switch (name) {");
+            for (Property property : properties) {
+                out.println("                    case \"" + property.json + "\":");
+                out.println("                        bean." + property.setter + "(" + property.read() + ");");
+                out.println("                        break;");
+            }
+            out.println("                    default:");
+            if (anySetter != null) {
+                out.println("                        bean." + anySetter
+                    + "(name, t == JsonToken.VALUE_NULL ? null : additional.deserialize(p, ctxt));");
+            } else {
+                out.println("                        ctxt.handleUnknownProperty(p, this, bean, name);");
+            }
+            out.println("                }");
+            out.println("            }");
+            out.println("            return bean;");
+            out.println("        }");
+            out.println("    }");
+        }
+
+        private void serializer(PrintWriter out) {
+            out.println("    public static final class Serializer extends StdSerializer<" + simpleName + "> {");
+            out.println();
+            out.println("        public Serializer() {");
+            out.println("            super(" + simpleName + ".class);");
+            out.println("        }");
+            out.println();
+            out.println("        @Override");
+            out.println("        public void serialize(" + simpleName + " bean, JsonGenerator g, SerializerProvider "
+                + "provider) throws IOException {");
+            out.println("            g.writeStartObject(bean);");
+            for (Property property : properties) {
+                out.println("            " + property.type + " value" + property.index + " = bean." + property.getter
+                    + "();");
+                if (nonNull) {
+                    out.println("            if (value" + property.index + " != null) {");
+                    out.println("                " + property.write());
+                    out.println("            }");
+                } else {
+                    out.println("            if (value" + property.index + " == null) {");
+                    out.println("                g.writeNullField(NAME_" + property.index + ".getValue());");
+                    out.println("            } else {");
+                    out.println("                " + property.write());
+                    out.println("            }");
+                }
+            }
+            if (anyGetter != null) {
+                out.println("            for (Map.Entry<String, Object> entry : bean." + anyGetter + "().entrySet()) {");
+                out.println("                provider.defaultSerializeField(entry.getKey(), entry.getValue(), g);");
+                out.println("            }");
+            }
+            out.println("            g.writeEndObject();");
+            out.println("        }");
+            out.println("    }");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package constants;
+
+import lombok.Getter;
+
+@Getter
+public enum AttachmentParameters {
+
+    NAME("name"),
+    URL("url"),
+    MIME_TYPE("mimeType");
+
+    private final String parameterName;
+
+    AttachmentParameters(String parameterName) {
+        this.parameterName = parameterName;
+    }
+}
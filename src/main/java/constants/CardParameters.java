@@ -0,0 +1,19 @@
+package constants;
+
+import lombok.Getter;
+
+@Getter
+public enum CardParameters {
+
+    NAME("name"),
+    DESCRIPTION("desc"),
+    ID_LIST("idList"),
+    POSITION("pos"),
+    CLOSED("closed");
+
+    private final String parameterName;
+
+    CardParameters(String parameterName) {
+        this.parameterName = parameterName;
+    }
+}
@@ -0,0 +1,18 @@
+package constants;
+
+import lombok.Getter;
+
+@Getter
+public enum ListParameters {
+
+    NAME("name"),
+    ID_BOARD("idBoard"),
+    POSITION("pos"),
+    VALUE("value");
+
+    private final String parameterName;
+
+    ListParameters(String parameterName) {
+        this.parameterName = parameterName;
+    }
+}
@@ -0,0 +1,8 @@
+package constants;
+
+public enum LogMode {
+    OFF,
+    ON_FAILURE,
+    SAMPLED,
+    FULL
+}
@@ -1,8 +1,39 @@
 package constants;
 
+import org.apache.http.HttpStatus;
+
 public class ResponseStatus {
+    public static final int ANY_RESPONSE = 0;
     public static final int GOOD_RESPONSE = 1;
     public static final int BAD_RESPONSE = 2;
     public static final int NOT_FOUND_RESPONSE = 3;
-}
 
+    /**
+     * @return the constant an HTTP status code is expected as, {@code ANY_RESPONSE} for other codes
+     */
+    public static int of(int httpStatus) {
+        switch (httpStatus) {
+            case HttpStatus.SC_OK:
+                return GOOD_RESPONSE;
+            case HttpStatus.SC_BAD_REQUEST:
+                return BAD_RESPONSE;
+            case HttpStatus.SC_NOT_FOUND:
+                return NOT_FOUND_RESPONSE;
+            default:
+                return ANY_RESPONSE;
+        }
+    }
+
+    public static String name(int responseStatus) {
+        switch (responseStatus) {
+            case GOOD_RESPONSE:
+                return "GOOD_RESPONSE";
+            case BAD_RESPONSE:
+                return "BAD_RESPONSE";
+            case NOT_FOUND_RESPONSE:
+                return "NOT_FOUND_RESPONSE";
+            default:
+                return "ANY_RESPONSE";
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package core;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for the async board operations. Board calls block on network I/O,
+ * so the default is an unbounded pool of daemon threads rather than the common fork-join pool.
+ */
+public final class AsyncExecutors {
+
+    private AsyncExecutors() {
+    }
+
+    public static ExecutorService cachedDaemonPool(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newCachedThreadPool(factory);
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} on JDK 21+, looked up reflectively
+     * because the project compiles for an older release; a cached daemon pool otherwise.
+     */
+    public static ExecutorService virtualThreadPerTask() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return cachedDaemonPool("trello-async");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package core;
+
+import beans.TrelloAttachment;
+import constants.AttachmentParameters;
+import io.restassured.http.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Link attachments on cards, sent through the same REST Assured client as {@link TrelloServiceObj}.
+ * The pluggable {@link Transport} carries only whole-board requests.
+ */
+public final class AttachmentServiceObj {
+
+    private AttachmentServiceObj() {
+    }
+
+    public static TrelloAttachment createAttachment(String idCard, String name, String url, int status) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.POST)
+            .setTarget(CardServiceObj.cardUri(idCard + "/attachments"))
+            .setParameter(AttachmentParameters.NAME.getParameterName(), name)
+            .setParameter(AttachmentParameters.URL.getParameterName(), url)
+            .buildRequest()
+            .entityRequest(status, TrelloAttachment.class);
+    }
+
+    public static List<TrelloAttachment> getAttachments(String idCard, int status) {
+        try (JsonArrayIterator<TrelloAttachment> attachments = TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(CardServiceObj.cardUri(idCard + "/attachments"))
+            .buildRequest()
+            .streamRequest(status, TrelloAttachment.class)) {
+            return attachments.stream().collect(Collectors.toList());
+        }
+    }
+}
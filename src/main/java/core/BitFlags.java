@@ -0,0 +1,26 @@
+package core;
+
+/**
+ * Nullable booleans packed two bits each into an int: bit {@code 2i} marks the value as present,
+ * bit {@code 2i + 1} holds it. Up to 16 flags per int.
+ */
+final class BitFlags {
+
+    private BitFlags() {
+    }
+
+    static int set(int flags, int index, Boolean value) {
+        if (value == null) {
+            return flags;
+        }
+        flags |= 1 << (2 * index);
+        return value ? flags | 1 << (2 * index + 1) : flags;
+    }
+
+    static Boolean get(int flags, int index) {
+        if ((flags & 1 << (2 * index)) == 0) {
+            return null;
+        }
+        return (flags & 1 << (2 * index + 1)) != 0;
+    }
+}
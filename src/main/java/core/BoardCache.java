@@ -0,0 +1,215 @@
+package core;
+
+import beans.TrelloBoard;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import constants.ResponseStatus;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.http.HttpStatus;
+
+/**
+ * Opt-in cache in front of {@link TrelloServiceObj#getBoard(String, int)}, installed with
+ * {@link TrelloServiceObj#setBoardCache(BoardCache)} or passed to the per-call overloads such as
+ * {@link TrelloServiceObj#getBoard(String, int, BoardCache)}. Entries are {@link CompactBoard}s, bounded
+ * by size with Caffeine's W-TinyLFU policy and fresh for the TTL. A stale entry that came with an
+ * {@code ETag} is kept for the stale retention and revalidated with {@code If-None-Match}; a 304
+ * renews it without transferring the board. Updates and deletes through {@link TrelloServiceObj} go to the
+ * cache's API root and invalidate the board.
+ */
+public final class BoardCache {
+    private static final String ETAG = "ETag";
+    private static final String IF_NONE_MATCH = "If-None-Match";
+    private static final int GENERATION_STRIPES = 64;
+
+    private final Cache<String, Entry> entries;
+    private final long ttlNanos;
+    private final URI baseUri;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private BoardCache(Builder builder) {
+        this.ttlNanos = builder.ttl.toNanos();
+        this.baseUri = builder.baseUri;
+        long staleNanos = builder.staleRetention.toNanos();
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(builder.maximumSize)
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String id, Entry entry, long currentTime) {
+                    return entry.etag() != null ? ttlNanos + staleNanos : ttlNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(String id, Entry entry, long currentTime, long currentDuration) {
+                    return expireAfterCreate(id, entry, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String id, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .executor(builder.maintenanceExecutor)
+            .recordStats()
+            .build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validates a fetched board like a {@code GOOD_RESPONSE} request.
+     *
+     * @return the board, fresh from the cache, revalidated or fetched
+     */
+    public TrelloBoard get(String id) {
+        long now = System.nanoTime();
+        Entry entry = entries.getIfPresent(id);
+        if (entry != null && now - entry.fetchedAt() < ttlNanos) {
+            hits.increment();
+            return entry.board().toTrelloBoard();
+        }
+
+        long generation = generations.get(stripe(id));
+        TrelloServiceObj.ApiRequestBuilder request = TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(boardUri(id));
+        if (entry != null && entry.etag() != null) {
+            request.setHeader(IF_NONE_MATCH, entry.etag());
+        }
+        Response response = request.buildRequest().sendRequest(ResponseStatus.ANY_RESPONSE);
+        if (response.statusCode() == HttpStatus.SC_NOT_MODIFIED && entry != null) {
+            revalidations.increment();
+            store(id, new Entry(entry.board(), entry.etag(), now), generation);
+            return entry.board().toTrelloBoard();
+        }
+
+        misses.increment();
+        if (response.statusCode() != HttpStatus.SC_OK) {
+            entries.invalidate(id);
+        }
+        try {
+            SpecRegistry.validateHead(ResponseStatus.GOOD_RESPONSE, response);
+        } catch (AssertionError ex) {
+            response.asByteArray();
+            throw ex;
+        }
+        TrelloBoard board = TrelloServiceObj.formBoardFromResponse(response);
+        store(id, new Entry(CompactBoard.of(board), response.header(ETAG), now), generation);
+        return board;
+    }
+
+    public void invalidate(String id) {
+        invalidations.increment();
+        generations.incrementAndGet(stripe(id));
+        entries.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        invalidations.increment();
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        entries.invalidateAll();
+    }
+
+    public boolean contains(String id) {
+        return entries.getIfPresent(id) != null;
+    }
+
+    public long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), revalidations.sum(), entries.stats().evictionCount(),
+            invalidations.sum());
+    }
+
+    /**
+     * A response that raced with an invalidation of its id (or another id in the same stripe) may predate
+     * the change, so it is returned but not stored.
+     */
+    private void store(String id, Entry entry, long generation) {
+        if (generations.get(stripe(id)) == generation) {
+            entries.put(id, entry);
+        }
+    }
+
+    private static int stripe(String id) {
+        return id.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    URI boardUri(String id) {
+        return baseUri != null ? baseUri.resolve(TrelloServiceObj.BOARD_URI).resolve(id) : TrelloServiceObj.boardUri(id);
+    }
+
+    /**
+     * @param revalidations stale entries renewed by a 304
+     * @param evictions     entries removed for size or expiry
+     * @param invalidations updates, deletes and explicit invalidations
+     */
+    public record Stats(long hits, long misses, long revalidations, long evictions, long invalidations) {
+    }
+
+    private record Entry(CompactBoard board, String etag, long fetchedAt) {
+    }
+
+    public static class Builder {
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofSeconds(30);
+        private Duration staleRetention = Duration.ofMinutes(5);
+        private URI baseUri;
+        private Executor maintenanceExecutor = Runnable::run;
+
+        public Builder setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder setTtl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * How long a stale entry with an {@code ETag} is kept for revalidation after its TTL.
+         */
+        public Builder setStaleRetention(Duration staleRetention) {
+            this.staleRetention = staleRetention;
+            return this;
+        }
+
+        /**
+         * Reads boards from another API root; by default follows {@link TrelloServiceObj#getBaseUri()}.
+         */
+        public Builder setBaseUri(URI baseUri) {
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        /**
+         * Runs Caffeine's eviction work; the calling thread by default.
+         */
+        public Builder setMaintenanceExecutor(Executor executor) {
+            this.maintenanceExecutor = executor;
+            return this;
+        }
+
+        public BoardCache build() {
+            return new BoardCache(this);
+        }
+    }
+}
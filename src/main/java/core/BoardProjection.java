@@ -0,0 +1,81 @@
+package core;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A subset of board fields read into a record instead of a full {@link beans.TrelloBoard}.
+ * The record components name the fields, so the {@code fields=} parameter and the parsed type
+ * always agree: {@code record BoardSummary(String id, String name, boolean closed)} sends
+ * {@code fields=id,name,closed}. A component annotated with {@link JsonProperty} uses that name.
+ */
+public final class BoardProjection<T extends Record> {
+    public static final String FIELDS = "fields";
+
+    private static final Map<Class<?>, BoardProjection<?>> PROJECTIONS = new ConcurrentHashMap<>();
+
+    private final Class<T> type;
+    private final List<String> fields;
+    private final String fieldsParameter;
+    private final ObjectReader reader;
+
+    private BoardProjection(Class<T> type) {
+        this.type = type;
+        List<String> names = new ArrayList<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            JsonProperty property = component.getAccessor().getAnnotation(JsonProperty.class);
+            names.add(property != null && !property.value().isEmpty() ? property.value() : component.getName());
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException(type.getName() + " selects no fields");
+        }
+        this.fields = List.copyOf(names);
+        this.fieldsParameter = String.join(",", names);
+        this.reader = BoardReader.mapper().readerFor(type)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Record> BoardProjection<T> of(Class<T> type) {
+        return (BoardProjection<T>) PROJECTIONS.computeIfAbsent(type, key -> new BoardProjection<>(type));
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public List<String> fields() {
+        return fields;
+    }
+
+    /**
+     * @return the value of the {@value #FIELDS} query parameter
+     */
+    public String fieldsParameter() {
+        return fieldsParameter;
+    }
+
+    /**
+     * @return the parsed projection, or {@code null} for an empty body
+     */
+    public T read(InputStream body) {
+        try (JsonParser parser = reader.getFactory().createParser(body)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return reader.readValue(parser);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package core;
+
+import beans.BeanCodecs;
+import beans.TrelloBoard;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.http.HttpStatus;
+
+/**
+ * Streams a {@link TrelloBoard}, or any other bean, straight from a response body.
+ * Readers are immutable and built once per type, so they are shared by all threads.
+ * Beans are read and written by the {@link BeanCodecs} generated at build time, unless
+ * {@code -Dtrello.generatedCodecs=false} selects Jackson's reflective bean codecs.
+ */
+public final class BoardReader {
+    private static final ObjectMapper MAPPER = Boolean.parseBoolean(System.getProperty("trello.generatedCodecs", "true"))
+        ? new ObjectMapper().registerModule(BeanCodecs.module())
+        : new ObjectMapper();
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+    private static final ObjectReader BOARD_READER = MAPPER.readerFor(TrelloBoard.class);
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private static volatile boolean lazy = Boolean.getBoolean("trello.lazyBoards");
+    private static volatile boolean validating =
+        Boolean.parseBoolean(System.getProperty("trello.schemaValidation", "true"));
+
+    private BoardReader() {
+    }
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Switches {@link #read(InputStream)} and batch reads to {@link LazyTrelloBoard}.
+     * Defaults to {@code -Dtrello.lazyBoards}.
+     */
+    public static void setLazy(boolean lazyBoards) {
+        lazy = lazyBoards;
+    }
+
+    public static boolean isValidating() {
+        return validating;
+    }
+
+    /**
+     * Checks every read against its {@link SchemaValidator} sample while it is parsed.
+     * Defaults to {@code -Dtrello.schemaValidation}, on unless set to {@code false}.
+     */
+    public static void setValidating(boolean validate) {
+        validating = validate;
+    }
+
+    /**
+     * @return the parsed board, or {@code null} for an empty body
+     */
+    public static TrelloBoard read(InputStream body) {
+        if (lazy) {
+            return readLazy(body);
+        }
+        try (JsonParser parser = validated(FACTORY.createParser(body), TrelloBoard.class)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return BOARD_READER.readValue(parser);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Reads the top-level board fields and keeps {@code prefs}, {@code labelNames} and {@code limits}
+     * as slices of the body until their getters are called.
+     *
+     * @return the parsed board, or {@code null} for an empty body
+     */
+    public static LazyTrelloBoard readLazy(InputStream body) {
+        try {
+            return readLazy(body.readAllBytes());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @return the parsed board, or {@code null} for an empty body
+     */
+    public static LazyTrelloBoard readLazy(byte[] body) {
+        try (JsonParser parser = validated(FACTORY.createParser(body), TrelloBoard.class)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return readLazy(parser, body, false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @return the parsed value, or {@code null} for an empty body
+     */
+    public static <T> T read(InputStream body, Class<T> type) {
+        try (JsonParser parser = validated(FACTORY.createParser(body), type)) {
+            if (parser.nextToken() == null) {
+                return null;
+            }
+            return reader(type).readValue(parser);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Iterates a JSON array body lazily, one element per {@code next()}.
+     */
+    public static <T> JsonArrayIterator<T> readArray(InputStream body, Class<T> type) {
+        try {
+            SchemaValidator validator = validating ? SchemaValidator.forType(type) : null;
+            if (validator == null) {
+                return new JsonArrayIterator<>(reader(type).readValues(body));
+            }
+            JsonParser parser = validator.arrayOf().wrap(FACTORY.createParser(body));
+            if (parser.nextToken() == JsonToken.START_ARRAY) {
+                // readValues(JsonParser) only unwraps the root array of parsers it creates itself
+                parser.clearCurrentToken();
+            }
+            return new JsonArrayIterator<>(reader(type).readValues(parser));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Reads a {@code /1/batch} response: an array with one sub-response per requested id, either
+     * {@code {"200": board}} / {@code {"404": "message"}} or {@code {"message": ..., "statusCode": 400}}.
+     * A response with more or fewer sub-responses than ids is rejected, so every id gets exactly one result.
+     */
+    public static List<BoardResult> readBatch(InputStream body, List<String> ids) {
+        List<BoardResult> results = new ArrayList<>(ids.size());
+        try {
+            byte[] bytes = lazy ? body.readAllBytes() : null;
+            try (JsonParser parser = bytes != null ? FACTORY.createParser(bytes) : FACTORY.createParser(body)) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Batch response is not an array");
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    if (results.size() == ids.size()) {
+                        throw new JsonParseException(parser, "More sub-responses than requested ids");
+                    }
+                    results.add(readSubResponse(parser, ids.get(results.size()), bytes));
+                }
+                if (results.size() < ids.size()) {
+                    throw new JsonParseException(parser, "Fewer sub-responses than requested ids: "
+                        + results.size() + " of " + ids.size());
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return results;
+    }
+
+    private static BoardResult readSubResponse(JsonParser parser, String id, byte[] body) throws IOException {
+        TrelloBoard board = null;
+        int status = 0;
+        String error = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (isStatusCode(field)) {
+                status = Integer.parseInt(field);
+                if (status == HttpStatus.SC_OK) {
+                    JsonParser boardParser = validated(parser, TrelloBoard.class);
+                    board = lazy ? readLazy(boardParser, body, true) : BOARD_READER.readValue(boardParser);
+                } else {
+                    error = parser.currentToken() == JsonToken.VALUE_STRING
+                        ? parser.getText()
+                        : parser.readValueAsTree().toString();
+                }
+            } else if ("statusCode".equals(field)) {
+                status = parser.getIntValue();
+            } else if ("message".equals(field)) {
+                error = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new BoardResult(id, status, board, error);
+    }
+
+    /**
+     * Mirrors the properties of the generated {@link TrelloBoard}; anything else goes to its
+     * additional properties, as the generated bean would do.
+     *
+     * @param copy copy the slices out of {@code body}, e.g. when it holds a whole batch of boards
+     */
+    private static LazyTrelloBoard readLazy(JsonParser parser, byte[] body, boolean copy) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Board is not an object");
+        }
+        LazyTrelloBoard board = new LazyTrelloBoard();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id":
+                    board.setId(parser.getValueAsString());
+                    break;
+                case "name":
+                    board.setName(parser.getValueAsString());
+                    break;
+                case "desc":
+                    board.setDesc(parser.getValueAsString());
+                    break;
+                case "closed":
+                    board.setClosed(value == JsonToken.VALUE_NULL ? null : parser.getBooleanValue());
+                    break;
+                case "idOrganization":
+                    board.setIdOrganization(parser.getValueAsString());
+                    break;
+                case "pinned":
+                    board.setPinned(value == JsonToken.VALUE_NULL ? null : parser.getBooleanValue());
+                    break;
+                case "url":
+                    board.setUrl(parser.getValueAsString());
+                    break;
+                case "shortUrl":
+                    board.setShortUrl(parser.getValueAsString());
+                    break;
+                case "descData":
+                    board.setDescData(parser.readValueAs(Object.class));
+                    break;
+                case "idEnterprise":
+                    board.setIdEnterprise(parser.readValueAs(Object.class));
+                    break;
+                case "prefs":
+                    board.setRawPrefs(slice(parser, body, copy));
+                    break;
+                case "labelNames":
+                    board.setRawLabelNames(slice(parser, body, copy));
+                    break;
+                case "limits":
+                    board.setRawLimits(slice(parser, body, copy));
+                    break;
+                default:
+                    board.setAdditionalProperty(field, parser.readValueAs(Object.class));
+            }
+        }
+        return board;
+    }
+
+    /**
+     * @return the bytes of the current value within {@code body}, or a copy of them, or {@code null} for JSON null
+     */
+    private static RawJson slice(JsonParser parser, byte[] body, boolean copy) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        int start = (int) parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        int end = (int) parser.getCurrentLocation().getByteOffset();
+        return copy
+            ? new RawJson(Arrays.copyOfRange(body, start, end), 0, end - start)
+            : new RawJson(body, start, end - start);
+    }
+
+    /**
+     * Wrap before the first {@code nextToken()} of a body, or on the {@code START_OBJECT} of a nested value.
+     */
+    static JsonParser validated(JsonParser parser, Class<?> type) {
+        SchemaValidator validator = validating ? SchemaValidator.forType(type) : null;
+        return validator == null ? parser : validator.wrap(parser);
+    }
+
+    private static ObjectReader reader(Class<?> type) {
+        return READERS.computeIfAbsent(type, MAPPER::readerFor);
+    }
+
+    private static boolean isStatusCode(String field) {
+        return field.length() == 3 && Character.isDigit(field.charAt(0))
+            && Character.isDigit(field.charAt(1)) && Character.isDigit(field.charAt(2));
+    }
+}
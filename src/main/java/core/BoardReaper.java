@@ -0,0 +1,174 @@
+package core;
+
+import constants.ResponseStatus;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpStatus;
+
+/**
+ * Deletes boards leaked by test runs: lists the member's boards by name only, selects those named by
+ * the current {@link RunNamespace} or, per {@link RunNamespace#startOf}, by a run that started more than the
+ * stale age ago, and deletes
+ * them in parallel with at most the configured number of requests in flight.
+ */
+public final class BoardReaper {
+    public static final URI MEMBER_BOARDS_URI = URI.create("/1/members/me/boards");
+
+    private final URI baseUri;
+    private final int concurrency;
+    private final Duration staleAfter;
+    private final boolean includeCurrentRun;
+    private final Executor executor;
+
+    private BoardReaper(Builder builder) {
+        this.baseUri = builder.baseUri;
+        this.concurrency = builder.concurrency;
+        this.staleAfter = builder.staleAfter;
+        this.includeCurrentRun = builder.includeCurrentRun;
+        this.executor = builder.executor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Report reap() {
+        long start = System.nanoTime();
+        URI root = baseUri != null ? baseUri : TrelloServiceObj.getBaseUri();
+        BoardProjection<BoardSummary> projection = BoardProjection.of(BoardSummary.class);
+        Instant staleBefore = Instant.now().minus(staleAfter);
+        RunNamespace current = RunNamespace.current();
+
+        List<String> selected = new ArrayList<>();
+        int listed = 0;
+        try (JsonArrayIterator<BoardSummary> boards = TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(root.resolve(MEMBER_BOARDS_URI))
+            .setParameter(BoardProjection.FIELDS, projection.fieldsParameter())
+            .buildRequest()
+            .streamRequest(ResponseStatus.GOOD_RESPONSE, BoardSummary.class)) {
+            while (boards.hasNext()) {
+                BoardSummary board = boards.next();
+                listed++;
+                boolean fromThisRun = current.owns(board.name());
+                boolean stale = !fromThisRun && RunNamespace.startOf(board.name())
+                    .map(started -> started.isBefore(staleBefore))
+                    .orElse(false);
+                if (fromThisRun && includeCurrentRun || stale) {
+                    selected.add(board.id());
+                }
+            }
+        }
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicInteger reclaimed = new AtomicInteger();
+        List<CompletableFuture<Void>> deletes = new ArrayList<>(selected.size());
+        for (String id : selected) {
+            inFlight.acquireUninterruptibly();
+            deletes.add(CompletableFuture.runAsync(() -> {
+                try {
+                    if (delete(root, id)) {
+                        reclaimed.incrementAndGet();
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(deletes.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+        return new Report(listed, selected.size(), reclaimed.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static boolean delete(URI root, String id) {
+        Response response = TrelloServiceObj.requestBuilder()
+            .setMethod(Method.DELETE)
+            .setTarget(root.resolve(TrelloServiceObj.BOARD_URI).resolve(id))
+            .buildRequest()
+            .sendRequest(ResponseStatus.ANY_RESPONSE);
+        response.asByteArray();
+        TrelloServiceObj.invalidate(id);
+        return response.statusCode() == HttpStatus.SC_OK;
+    }
+
+    /**
+     * Reaps stale runs on demand against {@code -Dtrello.url}, or the live API.
+     * {@code -Dreaper.staleMinutes} (default 60) and {@code -Dreaper.concurrency} (default 8) tune it.
+     */
+    public static void main(String[] args) {
+        Report report = builder()
+            .setStaleAfter(Duration.ofMinutes(Long.getLong("reaper.staleMinutes", 60)))
+            .setConcurrency(Integer.getInteger("reaper.concurrency", 8))
+            .build()
+            .reap();
+        System.out.println(report);
+    }
+
+    /**
+     * @param listed    boards on the member's account
+     * @param selected  boards from this run or stale runs
+     * @param reclaimed selected boards deleted with a 200
+     */
+    public record Report(int listed, int selected, int reclaimed, Duration elapsed) {
+
+        @Override
+        public String toString() {
+            return String.format("Reaped %d of %d test boards (%d listed) in %d ms", reclaimed, selected, listed,
+                elapsed.toMillis());
+        }
+    }
+
+    public static class Builder {
+        private URI baseUri;
+        private int concurrency = 8;
+        private Duration staleAfter = Duration.ofHours(1);
+        private boolean includeCurrentRun = true;
+        private Executor executor = AsyncExecutors.cachedDaemonPool("trello-reaper");
+
+        /**
+         * Reaps another API root; by default follows {@link TrelloServiceObj#getBaseUri()}.
+         */
+        public Builder setBaseUri(URI baseUri) {
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        /**
+         * Deletes in flight at once.
+         */
+        public Builder setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Age after which another run's boards count as leaked; younger runs may still be going.
+         */
+        public Builder setStaleAfter(Duration staleAfter) {
+            this.staleAfter = staleAfter;
+            return this;
+        }
+
+        public Builder setIncludeCurrentRun(boolean includeCurrentRun) {
+            this.includeCurrentRun = includeCurrentRun;
+            return this;
+        }
+
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public BoardReaper build() {
+            return new BoardReaper(this);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package core;
+
+import beans.TrelloBoard;
+import constants.ResponseStatus;
+import org.apache.http.HttpStatus;
+
+/**
+ * Outcome for one id of a batched read: the board on 200, otherwise the status and error text.
+ */
+public record BoardResult(String id, int httpStatus, TrelloBoard board, String error) {
+
+    public boolean isSuccess() {
+        return httpStatus == HttpStatus.SC_OK;
+    }
+
+    /**
+     * @return the matching {@link ResponseStatus} constant, {@code ANY_RESPONSE} for other codes
+     */
+    public int responseStatus() {
+        return ResponseStatus.of(httpStatus);
+    }
+}
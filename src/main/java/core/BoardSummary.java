@@ -0,0 +1,7 @@
+package core;
+
+/**
+ * The board fields most callers need; read with {@link TrelloServiceObj#getBoardSummary(String, int)}.
+ */
+public record BoardSummary(String id, String name, boolean closed) {
+}
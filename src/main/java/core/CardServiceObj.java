@@ -0,0 +1,62 @@
+package core;
+
+import beans.TrelloCard;
+import constants.CardParameters;
+import io.restassured.http.Method;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Trello cards, sent through the same REST Assured client, scheduler and logging as {@link TrelloServiceObj}.
+ * The pluggable {@link Transport} carries only whole-board requests.
+ */
+public final class CardServiceObj {
+    public static final URI CARD_URI = URI.create("/1/cards/");
+
+    private CardServiceObj() {
+    }
+
+    public static TrelloCard createCard(String name, String idList, int status) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.POST)
+            .setTarget(cardUri(""))
+            .setParameter(CardParameters.NAME.getParameterName(), name)
+            .setParameter(CardParameters.ID_LIST.getParameterName(), idList)
+            .buildRequest()
+            .entityRequest(status, TrelloCard.class);
+    }
+
+    public static TrelloCard getCard(String id, int status) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(cardUri(id))
+            .buildRequest()
+            .entityRequest(status, TrelloCard.class);
+    }
+
+    public static TrelloCard renameCard(String id, String name, int status) {
+        return updateCard(id, Map.of(CardParameters.NAME.getParameterName(), name), status);
+    }
+
+    public static TrelloCard updateCard(String id, Map<String, String> parameters, int status) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.PUT)
+            .setTarget(cardUri(id))
+            .setParameters(parameters)
+            .buildRequest()
+            .entityRequest(status, TrelloCard.class);
+    }
+
+    public static void deleteCard(String id, int status) {
+        TrelloServiceObj.requestBuilder()
+            .setMethod(Method.DELETE)
+            .setTarget(cardUri(id))
+            .buildRequest()
+            .sendRequest(status)
+            .asByteArray();
+    }
+
+    public static URI cardUri(String path) {
+        return TrelloServiceObj.getBaseUri().resolve(CARD_URI).resolve(path);
+    }
+}
@@ -0,0 +1,67 @@
+package core;
+
+import beans.Limits;
+import beans.TrelloBoard;
+import java.util.Objects;
+
+/**
+ * Immutable, low-footprint {@link TrelloBoard} for holding many boards at once. Prefs, label names
+ * and limits are shared between boards that have equal ones, {@code closed} and {@code pinned} are
+ * packed into {@code flags}, and unknown fields are kept in {@link Extras}, which is {@code null}
+ * when there are none. {@code descData} and {@code idEnterprise} are held as unmodifiable copies and
+ * {@link #toTrelloBoard()} hands out fresh ones, so no caller can change a shared board.
+ */
+public record CompactBoard(String id, String name, String desc, Object descData, String idOrganization,
+                           Object idEnterprise, String url, String shortUrl, int flags, CompactPrefs prefs,
+                           CompactLabelNames labelNames, Extras limits, Extras extras) {
+    private static final int CLOSED = 0;
+    private static final int PINNED = 1;
+
+    public static CompactBoard of(TrelloBoard board) {
+        int flags = 0;
+        flags = BitFlags.set(flags, CLOSED, board.getClosed());
+        flags = BitFlags.set(flags, PINNED, board.getPinned());
+        return new CompactBoard(board.getId(), board.getName(), board.getDesc(), Extras.immutable(board.getDescData()),
+            Interner.intern(board.getIdOrganization()), Extras.immutable(board.getIdEnterprise()), board.getUrl(),
+            board.getShortUrl(), flags, CompactPrefs.of(board.getPrefs()), CompactLabelNames.of(board.getLabelNames()),
+            limits(board.getLimits()), Extras.of(board.getAdditionalProperties(), false));
+    }
+
+    public Boolean closed() {
+        return BitFlags.get(flags, CLOSED);
+    }
+
+    public Boolean pinned() {
+        return BitFlags.get(flags, PINNED);
+    }
+
+    public TrelloBoard toTrelloBoard() {
+        TrelloBoard board = new TrelloBoard();
+        board.setId(id);
+        board.setName(name);
+        board.setDesc(desc);
+        board.setDescData(Extras.mutable(descData));
+        board.setClosed(closed());
+        board.setIdOrganization(idOrganization);
+        board.setIdEnterprise(Extras.mutable(idEnterprise));
+        board.setPinned(pinned());
+        board.setUrl(url);
+        board.setShortUrl(shortUrl);
+        board.setPrefs(prefs == null ? null : prefs.toPrefs());
+        board.setLabelNames(labelNames == null ? null : labelNames.toLabelNames());
+        if (limits != null) {
+            Limits copy = new Limits();
+            Extras.copyTo(limits, copy.getAdditionalProperties());
+            board.setLimits(copy);
+        }
+        Extras.copyTo(extras, board.getAdditionalProperties());
+        return board;
+    }
+
+    private static Extras limits(Limits limits) {
+        if (limits == null) {
+            return null;
+        }
+        return Objects.requireNonNullElse(Extras.of(limits.getAdditionalProperties(), true), Extras.EMPTY);
+    }
+}
@@ -0,0 +1,39 @@
+package core;
+
+import beans.LabelNames;
+
+/**
+ * Immutable {@link LabelNames}. Instances are interned: boards with the same label names share one.
+ */
+public record CompactLabelNames(String green, String yellow, String orange, String red, String purple,
+                                String blue, String sky, String lime, String pink, String black, Extras extras) {
+
+    /**
+     * @return the shared instance equal to {@code labelNames}, or {@code null}
+     */
+    public static CompactLabelNames of(LabelNames labelNames) {
+        if (labelNames == null) {
+            return null;
+        }
+        return Interner.intern(new CompactLabelNames(labelNames.getGreen(), labelNames.getYellow(),
+            labelNames.getOrange(), labelNames.getRed(), labelNames.getPurple(), labelNames.getBlue(),
+            labelNames.getSky(), labelNames.getLime(), labelNames.getPink(), labelNames.getBlack(),
+            Extras.of(labelNames.getAdditionalProperties(), true)));
+    }
+
+    public LabelNames toLabelNames() {
+        LabelNames labelNames = new LabelNames();
+        labelNames.setGreen(green);
+        labelNames.setYellow(yellow);
+        labelNames.setOrange(orange);
+        labelNames.setRed(red);
+        labelNames.setPurple(purple);
+        labelNames.setBlue(blue);
+        labelNames.setSky(sky);
+        labelNames.setLime(lime);
+        labelNames.setPink(pink);
+        labelNames.setBlack(black);
+        Extras.copyTo(extras, labelNames.getAdditionalProperties());
+        return labelNames;
+    }
+}
@@ -0,0 +1,126 @@
+package core;
+
+import beans.Prefs;
+
+/**
+ * Immutable {@link Prefs} with the eleven booleans packed into {@code flags} (see {@link BitFlags})
+ * and the enum-like strings interned. Instances are interned too, so boards with the same prefs,
+ * the usual case, share one.
+ */
+public record CompactPrefs(String permissionLevel, String voting, String comments, String invitations,
+                           String cardAging, String background, Object backgroundImage,
+                           Object backgroundImageScaled, String backgroundBrightness, String backgroundColor,
+                           String backgroundBottomColor, String backgroundTopColor, int flags, Extras extras) {
+    private static final int HIDE_VOTES = 0;
+    private static final int SELF_JOIN = 1;
+    private static final int CARD_COVERS = 2;
+    private static final int IS_TEMPLATE = 3;
+    private static final int CALENDAR_FEED_ENABLED = 4;
+    private static final int BACKGROUND_TILE = 5;
+    private static final int CAN_BE_PUBLIC = 6;
+    private static final int CAN_BE_ENTERPRISE = 7;
+    private static final int CAN_BE_ORG = 8;
+    private static final int CAN_BE_PRIVATE = 9;
+    private static final int CAN_INVITE = 10;
+
+    /**
+     * @return the shared instance equal to {@code prefs}, or {@code null}
+     */
+    public static CompactPrefs of(Prefs prefs) {
+        if (prefs == null) {
+            return null;
+        }
+        int flags = 0;
+        flags = BitFlags.set(flags, HIDE_VOTES, prefs.getHideVotes());
+        flags = BitFlags.set(flags, SELF_JOIN, prefs.getSelfJoin());
+        flags = BitFlags.set(flags, CARD_COVERS, prefs.getCardCovers());
+        flags = BitFlags.set(flags, IS_TEMPLATE, prefs.getIsTemplate());
+        flags = BitFlags.set(flags, CALENDAR_FEED_ENABLED, prefs.getCalendarFeedEnabled());
+        flags = BitFlags.set(flags, BACKGROUND_TILE, prefs.getBackgroundTile());
+        flags = BitFlags.set(flags, CAN_BE_PUBLIC, prefs.getCanBePublic());
+        flags = BitFlags.set(flags, CAN_BE_ENTERPRISE, prefs.getCanBeEnterprise());
+        flags = BitFlags.set(flags, CAN_BE_ORG, prefs.getCanBeOrg());
+        flags = BitFlags.set(flags, CAN_BE_PRIVATE, prefs.getCanBePrivate());
+        flags = BitFlags.set(flags, CAN_INVITE, prefs.getCanInvite());
+        return Interner.intern(new CompactPrefs(Interner.intern(prefs.getPermissionLevel()),
+            Interner.intern(prefs.getVoting()), Interner.intern(prefs.getComments()),
+            Interner.intern(prefs.getInvitations()), Interner.intern(prefs.getCardAging()),
+            Interner.intern(prefs.getBackground()), Extras.immutable(prefs.getBackgroundImage()),
+            Extras.immutable(prefs.getBackgroundImageScaled()), Interner.intern(prefs.getBackgroundBrightness()),
+            Interner.intern(prefs.getBackgroundColor()), Interner.intern(prefs.getBackgroundBottomColor()),
+            Interner.intern(prefs.getBackgroundTopColor()), flags, Extras.of(prefs.getAdditionalProperties(), true)));
+    }
+
+    public Boolean hideVotes() {
+        return BitFlags.get(flags, HIDE_VOTES);
+    }
+
+    public Boolean selfJoin() {
+        return BitFlags.get(flags, SELF_JOIN);
+    }
+
+    public Boolean cardCovers() {
+        return BitFlags.get(flags, CARD_COVERS);
+    }
+
+    public Boolean isTemplate() {
+        return BitFlags.get(flags, IS_TEMPLATE);
+    }
+
+    public Boolean calendarFeedEnabled() {
+        return BitFlags.get(flags, CALENDAR_FEED_ENABLED);
+    }
+
+    public Boolean backgroundTile() {
+        return BitFlags.get(flags, BACKGROUND_TILE);
+    }
+
+    public Boolean canBePublic() {
+        return BitFlags.get(flags, CAN_BE_PUBLIC);
+    }
+
+    public Boolean canBeEnterprise() {
+        return BitFlags.get(flags, CAN_BE_ENTERPRISE);
+    }
+
+    public Boolean canBeOrg() {
+        return BitFlags.get(flags, CAN_BE_ORG);
+    }
+
+    public Boolean canBePrivate() {
+        return BitFlags.get(flags, CAN_BE_PRIVATE);
+    }
+
+    public Boolean canInvite() {
+        return BitFlags.get(flags, CAN_INVITE);
+    }
+
+    public Prefs toPrefs() {
+        Prefs prefs = new Prefs();
+        prefs.setPermissionLevel(permissionLevel);
+        prefs.setHideVotes(hideVotes());
+        prefs.setVoting(voting);
+        prefs.setComments(comments);
+        prefs.setInvitations(invitations);
+        prefs.setSelfJoin(selfJoin());
+        prefs.setCardCovers(cardCovers());
+        prefs.setIsTemplate(isTemplate());
+        prefs.setCardAging(cardAging);
+        prefs.setCalendarFeedEnabled(calendarFeedEnabled());
+        prefs.setBackground(background);
+        prefs.setBackgroundImage(backgroundImage);
+        prefs.setBackgroundImageScaled(backgroundImageScaled);
+        prefs.setBackgroundTile(backgroundTile());
+        prefs.setBackgroundBrightness(backgroundBrightness);
+        prefs.setBackgroundColor(backgroundColor);
+        prefs.setBackgroundBottomColor(backgroundBottomColor);
+        prefs.setBackgroundTopColor(backgroundTopColor);
+        prefs.setCanBePublic(canBePublic());
+        prefs.setCanBeEnterprise(canBeEnterprise());
+        prefs.setCanBeOrg(canBeOrg());
+        prefs.setCanBePrivate(canBePrivate());
+        prefs.setCanInvite(canInvite());
+        Extras.copyTo(extras, prefs.getAdditionalProperties());
+        return prefs;
+    }
+}
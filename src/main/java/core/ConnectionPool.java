@@ -0,0 +1,149 @@
+package core;
+
+import static io.restassured.config.HttpClientConfig.httpClientConfig;
+
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * Shared keep-alive connection pool for RestAssured.
+ * <p>
+ * REST Assured 4 only drives {@code AbstractHttpClient}, hence the legacy {@code DefaultHttpClient}
+ * and {@code PoolingClientConnectionManager}. Its own gzip decoders are switched off because it
+ * re-registers them on the client for every request, which races on a shared instance; the
+ * HttpClient encoding interceptors are installed once instead.
+ */
+@SuppressWarnings("deprecation")
+public final class ConnectionPool implements Closeable {
+    private final PoolingClientConnectionManager manager;
+    private final RestAssuredConfig config;
+    private final ScheduledExecutorService evictor;
+
+    private ConnectionPool(Builder builder) {
+        SchemeRegistry schemes = new SchemeRegistry();
+        schemes.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+        schemes.register(new Scheme("https", 443, builder.sslContext == null
+            ? SSLSocketFactory.getSocketFactory()
+            : new SSLSocketFactory(builder.sslContext, SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER)));
+
+        manager = new PoolingClientConnectionManager(schemes, builder.timeToLive.toMillis(), TimeUnit.MILLISECONDS);
+        manager.setMaxTotal(builder.maxTotal);
+        manager.setDefaultMaxPerRoute(builder.maxPerRoute);
+
+        DefaultHttpClient client = new DefaultHttpClient(manager);
+        client.setKeepAliveStrategy(keepAliveStrategy(builder.keepAlive.toMillis()));
+        client.addRequestInterceptor(new RequestAcceptEncoding());
+        client.addResponseInterceptor(new ResponseContentEncoding());
+
+        config = RestAssuredConfig.config()
+            .httpClient(httpClientConfig().reuseHttpClientInstance().httpClientFactory(() -> client))
+            .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+
+        long idleMillis = builder.idleTimeout.toMillis();
+        evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleMillis, TimeUnit.MILLISECONDS);
+        }, builder.evictionInterval.toMillis(), builder.evictionInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public RestAssuredConfig restAssuredConfig() {
+        return config;
+    }
+
+    public Metrics metrics() {
+        PoolStats stats = manager.getTotalStats();
+        return new Metrics(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdownNow();
+        manager.shutdown();
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long maxKeepAliveMillis) {
+        DefaultConnectionKeepAliveStrategy serverHint = new DefaultConnectionKeepAliveStrategy();
+        return (response, context) -> {
+            long hinted = serverHint.getKeepAliveDuration(response, context);
+            return hinted > 0 ? Math.min(hinted, maxKeepAliveMillis) : maxKeepAliveMillis;
+        };
+    }
+
+    public record Metrics(int leased, int available, int pending, int max) {
+    }
+
+    public static class Builder {
+        private int maxTotal = 200;
+        private int maxPerRoute = 50;
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration timeToLive = Duration.ofMinutes(5);
+        private Duration idleTimeout = Duration.ofSeconds(30);
+        private Duration evictionInterval = Duration.ofSeconds(5);
+        private SSLContext sslContext;
+
+        public Builder setMaxTotal(int maxTotal) {
+            this.maxTotal = maxTotal;
+            return this;
+        }
+
+        public Builder setMaxPerRoute(int maxPerRoute) {
+            this.maxPerRoute = maxPerRoute;
+            return this;
+        }
+
+        public Builder setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        public Builder setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        public Builder setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        public Builder setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+            return this;
+        }
+
+        public Builder setSslContext(SSLContext sslContext) {
+            this.sslContext = sslContext;
+            return this;
+        }
+
+        public ConnectionPool build() {
+            return new ConnectionPool(this);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package core;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Properties;
+
+/**
+ * Holds the current key and token, loaded once from a properties file.
+ * A daemon thread watches the file and swaps in new credentials when it changes,
+ * so requests only read a volatile reference and never touch the disk.
+ */
+public final class CredentialProvider implements Closeable {
+    public static final String PATH_PROPERTY = "trello.credentials";
+    private static final String DEFAULT_PATH = "src/test/resources/keyAndToken.properties";
+
+    private static volatile CredentialProvider instance;
+
+    private final Path path;
+    private final WatchService watchService;
+    private volatile Credentials credentials;
+
+    public CredentialProvider(Path path) throws IOException {
+        this.path = path.toAbsolutePath();
+        this.credentials = load(this.path);
+        this.watchService = this.path.getFileSystem().newWatchService();
+        this.path.getParent().register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+
+        Thread watcher = new Thread(this::watch, "credentials-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    public static CredentialProvider getDefault() {
+        CredentialProvider provider = instance;
+        if (provider == null) {
+            synchronized (CredentialProvider.class) {
+                provider = instance;
+                if (provider == null) {
+                    try {
+                        provider = new CredentialProvider(
+                            Paths.get(System.getProperty(PATH_PROPERTY, DEFAULT_PATH)));
+                    } catch (IOException ex) {
+                        throw new IllegalStateException("Cannot watch credentials file", ex);
+                    }
+                    instance = provider;
+                }
+            }
+        }
+        return provider;
+    }
+
+    public Credentials get() {
+        return credentials;
+    }
+
+    /**
+     * Rereads the file; the previous credentials stay in place if the file is unreadable
+     * or incomplete (e.g. caught in the middle of a rewrite).
+     */
+    public void reload() {
+        try {
+            Credentials loaded = load(path);
+            if (loaded.key() != null && loaded.token() != null) {
+                credentials = loaded;
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (path.getFileName().equals(event.context())) {
+                        reload();
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ex) {
+            // provider closed
+        }
+    }
+
+    private static Credentials load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream file = Files.newInputStream(path)) {
+            properties.load(file);
+        }
+        return new Credentials(properties.getProperty("key"), properties.getProperty("token"));
+    }
+}
@@ -0,0 +1,4 @@
+package core;
+
+public record Credentials(String key, String token) {
+}
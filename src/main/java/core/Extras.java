@@ -0,0 +1,153 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable replacement for the {@code additionalProperties} map of a generated bean. The name array
+ * is shared by every instance with the same names in the same order, and values of low-cardinality
+ * objects such as prefs are interned, so a board only pays for its own array of references.
+ */
+public final class Extras {
+    /**
+     * Stands for an empty object where {@code {}} and absent must stay distinct, such as {@code limits}.
+     */
+    static final Extras EMPTY = new Extras(new String[0], new Object[0]);
+
+    private final String[] names;
+    private final Object[] values;
+
+    private Extras(String[] names, Object[] values) {
+        this.names = names;
+        this.values = values;
+    }
+
+    /**
+     * @param internValues whether the values repeat across boards and should be shared
+     * @return the extras, or {@code null} when there are none
+     */
+    static Extras of(Map<String, Object> properties, boolean internValues) {
+        if (properties == null || properties.isEmpty()) {
+            return null;
+        }
+        List<String> names = new ArrayList<>(properties.size());
+        Object[] values = new Object[properties.size()];
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            Object value = immutable(property.getValue());
+            values[names.size()] = internValues ? Interner.intern(value) : value;
+            names.add(property.getKey());
+        }
+        return new Extras(Interner.intern(new Names(names.toArray(String[]::new))).names, values);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public Object get(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            map.put(names[i], values[i]);
+        }
+        return map;
+    }
+
+    /**
+     * Copies extras back into a generated bean.
+     */
+    static void copyTo(Extras extras, Map<String, Object> additionalProperties) {
+        if (extras != null) {
+            additionalProperties.putAll(extras.toMap());
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Extras)) {
+            return false;
+        }
+        Extras extras = (Extras) other;
+        return Arrays.equals(names, extras.names) && Arrays.equals(values, extras.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(names) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Object immutable(Object value) {
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object element : (List<Object>) value) {
+                copy.add(immutable(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        if (value instanceof Map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            ((Map<String, Object>) value).forEach((key, element) -> copy.put(key, immutable(element)));
+            return Collections.unmodifiableMap(copy);
+        }
+        return value;
+    }
+
+    /**
+     * Deep copy of an {@link #immutable} value that the caller may change.
+     */
+    @SuppressWarnings("unchecked")
+    static Object mutable(Object value) {
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object element : (List<Object>) value) {
+                copy.add(mutable(element));
+            }
+            return copy;
+        }
+        if (value instanceof Map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            ((Map<String, Object>) value).forEach((key, element) -> copy.put(key, mutable(element)));
+            return copy;
+        }
+        return value;
+    }
+
+    private static final class Names {
+        private final String[] names;
+
+        private Names(String[] names) {
+            this.names = names;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Names && Arrays.equals(names, ((Names) other).names);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(names);
+        }
+    }
+}
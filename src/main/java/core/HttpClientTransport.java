@@ -0,0 +1,230 @@
+package core;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Board requests on the JDK {@link HttpClient}: HTTP/2 where the server negotiates it (ALPN over TLS, or an h2c
+ * upgrade), so concurrent requests to api.trello.com share one multiplexed connection, and a non-blocking
+ * {@link #sendAsync} that holds no thread while a request is in flight. Servers that only speak HTTP/1.1 get pooled
+ * keep-alive connections instead. Every parameter, credentials included, goes in the query string.
+ */
+public final class HttpClientTransport implements Transport {
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    private HttpClientTransport(Builder builder) {
+        HttpClient.Builder client = HttpClient.newBuilder()
+            .version(builder.version)
+            .connectTimeout(builder.connectTimeout);
+        if (builder.executor != null) {
+            client.executor(builder.executor);
+        }
+        this.client = client.build();
+        this.requestTimeout = builder.requestTimeout;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public TransportResponse send(TransportRequest request) {
+        try {
+            return new Exchange(client.send(httpRequest(request), HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + request.target(), ex);
+        }
+    }
+
+    /**
+     * Completes on the client's executor once the headers are in; {@code executor} is not used.
+     */
+    @Override
+    public CompletableFuture<TransportResponse> sendAsync(TransportRequest request, Executor executor) {
+        return client.sendAsync(httpRequest(request), HttpResponse.BodyHandlers.ofInputStream())
+            .thenApply(Exchange::new);
+    }
+
+    private HttpRequest httpRequest(TransportRequest request) {
+        StringBuilder query = new StringBuilder();
+        appendParameter(query, "key", request.credentials().key());
+        appendParameter(query, "token", request.credentials().token());
+        request.parameters().forEach((name, value) -> appendParameter(query, name, value));
+        URI target = request.target();
+        String separator = target.getRawQuery() == null ? "?" : "&";
+
+        HttpRequest.Builder http = HttpRequest.newBuilder(URI.create(target + separator + query))
+            .method(request.method().name(), HttpRequest.BodyPublishers.noBody())
+            .header("Accept", "application/json");
+        request.headers().forEach(http::header);
+        if (requestTimeout != null) {
+            http.timeout(requestTimeout);
+        }
+        return http.build();
+    }
+
+    private static void appendParameter(StringBuilder query, String name, String value) {
+        if (query.length() > 0) {
+            query.append('&');
+        }
+        query.append(URLEncoder.encode(name, StandardCharsets.UTF_8)).append('=')
+            .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+    }
+
+    private static class Exchange implements TransportResponse {
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final InputStream body;
+
+        Exchange(HttpResponse<InputStream> response) {
+            this(response.statusCode(), response.headers(), new DrainingInputStream(response.body()));
+        }
+
+        Exchange(int statusCode, HttpHeaders headers, InputStream body) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        @Override
+        public int statusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String contentType() {
+            return header("Content-Type");
+        }
+
+        @Override
+        public String header(String name) {
+            return headers.firstValue(name).orElse(null);
+        }
+
+        @Override
+        public Map<String, List<String>> headers() {
+            return headers.map();
+        }
+
+        @Override
+        public InputStream body() {
+            return body;
+        }
+
+        @Override
+        public void discard() {
+            try (InputStream in = body) {
+                in.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public TransportResponse buffered() {
+            try (InputStream in = body) {
+                return new Buffered(statusCode, headers, in.readAllBytes());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private static final class Buffered extends Exchange {
+        private final byte[] bytes;
+
+        Buffered(int statusCode, HttpHeaders headers, byte[] bytes) {
+            super(statusCode, headers, null);
+            this.bytes = bytes;
+        }
+
+        @Override
+        public InputStream body() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public void discard() {
+        }
+
+        @Override
+        public TransportResponse buffered() {
+            return this;
+        }
+    }
+
+    /**
+     * The parser closes its source once the value is read, which can be before the end of the body. Closing the
+     * client's stream early cancels the exchange and throws the connection away, so the rest is read first.
+     */
+    private static final class DrainingInputStream extends FilterInputStream {
+
+        DrainingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (InputStream body = in) {
+                body.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+    }
+
+    public static class Builder {
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration requestTimeout;
+        private Executor executor;
+
+        public Builder setVersion(HttpClient.Version version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Unlimited by default.
+         */
+        public Builder setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Runs the client's I/O and async completions; the client's own cached pool by default.
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public HttpClientTransport build() {
+            return new HttpClientTransport(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package core;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances for values that repeat across boards: enum-like strings, colors and whole
+ * immutable prefs or label sets. Only low-cardinality values should be interned; once the pool holds
+ * {@link #MAX_SIZE} entries new values are returned as they are, so a misuse cannot grow it without bound.
+ */
+final class Interner {
+    static final int MAX_SIZE = 1 << 16;
+
+    private static final Map<Object, Object> POOL = new ConcurrentHashMap<>();
+
+    private Interner() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        Object canonical = POOL.get(value);
+        if (canonical != null) {
+            return (T) canonical;
+        }
+        if (POOL.size() >= MAX_SIZE) {
+            return value;
+        }
+        canonical = POOL.putIfAbsent(value, value);
+        return canonical != null ? (T) canonical : value;
+    }
+}
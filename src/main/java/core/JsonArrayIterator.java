@@ -0,0 +1,82 @@
+package core;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Elements of a JSON array response parsed one at a time while the body is read, so only the
+ * current element is on the heap. Close it (or the {@link #stream()}) to release the connection
+ * when iteration stops early; reaching the end closes it automatically.
+ */
+public final class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+    private final Iterator<T> elements;
+    private final Closeable source;
+    private boolean closed;
+
+    JsonArrayIterator(MappingIterator<T> elements) {
+        this.elements = elements;
+        this.source = elements;
+    }
+
+    private JsonArrayIterator() {
+        this.elements = Collections.emptyIterator();
+        this.source = () -> {
+        };
+    }
+
+    static <T> JsonArrayIterator<T> empty() {
+        return new JsonArrayIterator<>();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        try {
+            if (elements.hasNext()) {
+                return true;
+            }
+        } catch (RuntimeException ex) {
+            close();
+            throw ex;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return elements.next();
+    }
+
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            source.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
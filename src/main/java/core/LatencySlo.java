@@ -0,0 +1,48 @@
+package core;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.HdrHistogram.Histogram;
+
+/**
+ * A percentile latency objective for one endpoint, written as {@code "POST /1/boards p99 < 800ms"}.
+ */
+public record LatencySlo(String endpoint, double percentile, Duration limit) {
+    private static final Pattern FORMAT = Pattern.compile(
+        "\\s*(\\S+\\s+\\S+)\\s+p(\\d+(?:\\.\\d+)?)\\s*<\\s*(\\d+)\\s*(ms|s)\\s*");
+
+    public static LatencySlo parse(String slo) {
+        Matcher matcher = FORMAT.matcher(slo);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Expected \"<METHOD> <path> p<percentile> < <n>ms\", got: " + slo);
+        }
+        long amount = Long.parseLong(matcher.group(3));
+        return new LatencySlo(matcher.group(1).replaceAll("\\s+", " "), Double.parseDouble(matcher.group(2)),
+            "s".equals(matcher.group(4)) ? Duration.ofSeconds(amount) : Duration.ofMillis(amount));
+    }
+
+    /**
+     * @return a description of the violation, or {@code null} when the objective is met
+     */
+    public String check(Histogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return this + " has no samples";
+        }
+        long observed = histogram.getValueAtPercentile(percentile);
+        if (observed < limit.toNanos()) {
+            return null;
+        }
+        return String.format("%s violated: p%s was %.1f ms over %d requests", this, format(percentile),
+            LatencyStats.millis(observed), histogram.getTotalCount());
+    }
+
+    @Override
+    public String toString() {
+        return endpoint + " p" + format(percentile) + " < " + limit.toMillis() + "ms";
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
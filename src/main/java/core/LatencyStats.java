@@ -0,0 +1,139 @@
+package core;
+
+import io.restassured.http.Method;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * Latency of every request sent through {@link TrelloServiceObj}, one histogram per endpoint
+ * such as {@code "PUT /1/boards/{id}"}. Recording goes through an HdrHistogram {@link Recorder},
+ * which is wait-free for the request threads; readers fold it into a running total.
+ */
+public final class LatencyStats {
+    private static final long MAX_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final Map<String, Endpoint> ENDPOINTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> PAUSED = ThreadLocal.withInitial(() -> false);
+    private static final Set<String> EXCLUDED = ConcurrentHashMap.newKeySet();
+
+    private LatencyStats() {
+    }
+
+    public static void record(Method method, URI target, long nanos) {
+        if (PAUSED.get() || !EXCLUDED.isEmpty() && EXCLUDED.contains(target.getRawAuthority())) {
+            return;
+        }
+        ENDPOINTS.computeIfAbsent(endpoint(method, target), key -> new Endpoint())
+            .recorder.recordValue(Math.min(Math.max(nanos, 0), MAX_NANOS));
+    }
+
+    /**
+     * Runs {@code work} without recording the requests it sends from the calling thread; requests on other
+     * threads are recorded as usual.
+     */
+    public static <T> T unrecorded(Supplier<T> work) {
+        boolean paused = PAUSED.get();
+        PAUSED.set(true);
+        try {
+            return work.get();
+        } finally {
+            PAUSED.set(paused);
+        }
+    }
+
+    /**
+     * Stops recording requests to the host and port of {@code baseUri}, e.g. a stand-in that a stress test
+     * overloads on purpose, so its latency does not land in the endpoints' histograms.
+     */
+    public static void exclude(URI baseUri) {
+        EXCLUDED.add(baseUri.getRawAuthority());
+    }
+
+    /**
+     * Records requests to {@code baseUri} again; call it once the excluded server is stopped, as its port
+     * may be reused.
+     */
+    public static void include(URI baseUri) {
+        EXCLUDED.remove(baseUri.getRawAuthority());
+    }
+
+    /**
+     * @return method and path with every id segment replaced, e.g. {@code "GET /1/lists/{id}/cards"}
+     */
+    public static String endpoint(Method method, URI target) {
+        String[] segments = target.getPath().split("/");
+        StringBuilder endpoint = new StringBuilder(method.name()).append(' ');
+        int position = 0;
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            endpoint.append('/');
+            // "/1/<resource>/<id>/<sub-resource>/<id>": ids sit at even positions after the version
+            endpoint.append(position > 0 && position % 2 == 0 ? "{id}" : segment);
+            position++;
+        }
+        return endpoint.toString();
+    }
+
+    /**
+     * @return everything recorded for the endpoint so far, empty if it was never called
+     */
+    public static Histogram snapshot(String endpoint) {
+        Endpoint stats = ENDPOINTS.get(endpoint);
+        return stats == null ? new Histogram(MAX_NANOS, 3) : stats.snapshot();
+    }
+
+    public static Map<String, Histogram> snapshot() {
+        Map<String, Histogram> snapshot = new TreeMap<>();
+        ENDPOINTS.forEach((endpoint, stats) -> snapshot.put(endpoint, stats.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * @throws AssertionError if the endpoint has no samples or its percentile is at or above {@code limit}
+     */
+    public static void assertPercentile(String endpoint, double percentile, Duration limit) {
+        String violation = new LatencySlo(endpoint, percentile, limit).check(snapshot(endpoint));
+        if (violation != null) {
+            throw new AssertionError(violation);
+        }
+    }
+
+    public static String summary() {
+        StringBuilder out = new StringBuilder(String.format("%-32s %7s %9s %9s %9s %9s%n",
+            "endpoint", "count", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        snapshot().forEach((endpoint, histogram) -> out.append(String.format("%-32s %7d %9.1f %9.1f %9.1f %9.1f%n",
+            endpoint, histogram.getTotalCount(), millis(histogram.getValueAtPercentile(50)),
+            millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()))));
+        return out.toString();
+    }
+
+    public static void reset() {
+        ENDPOINTS.clear();
+    }
+
+    static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private static final class Endpoint {
+        private final Recorder recorder = new Recorder(MAX_NANOS, 3);
+        private final Histogram total = new Histogram(MAX_NANOS, 3);
+        private Histogram interval;
+
+        synchronized Histogram snapshot() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            return total.copy();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package core;
+
+import beans.LabelNames;
+import beans.Limits;
+import beans.Prefs;
+import beans.TrelloBoard;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A {@link TrelloBoard} that keeps {@code prefs}, {@code labelNames} and {@code limits} as slices of the
+ * response body and decodes each one on the first call to its getter. Decoding happens once under the board's lock;
+ * later calls, from any thread, read the decoded object without locking.
+ * Read with {@link BoardReader#readLazy(java.io.InputStream)}.
+ */
+public class LazyTrelloBoard extends TrelloBoard {
+    private static final ObjectReader PREFS_READER = BoardReader.mapper().readerFor(Prefs.class);
+    private static final ObjectReader LABEL_NAMES_READER = BoardReader.mapper().readerFor(LabelNames.class);
+    private static final ObjectReader LIMITS_READER = BoardReader.mapper().readerFor(Limits.class);
+
+    private volatile RawJson rawPrefs;
+    private volatile RawJson rawLabelNames;
+    private volatile RawJson rawLimits;
+
+    void setRawPrefs(RawJson raw) {
+        rawPrefs = raw;
+    }
+
+    void setRawLabelNames(RawJson raw) {
+        rawLabelNames = raw;
+    }
+
+    void setRawLimits(RawJson raw) {
+        rawLimits = raw;
+    }
+
+    @Override
+    public Prefs getPrefs() {
+        if (rawPrefs != null) {
+            synchronized (this) {
+                if (rawPrefs != null) {
+                    super.setPrefs(decode(PREFS_READER, "prefs", rawPrefs));
+                    rawPrefs = null;
+                }
+            }
+        }
+        return super.getPrefs();
+    }
+
+    @Override
+    public synchronized void setPrefs(Prefs prefs) {
+        rawPrefs = null;
+        super.setPrefs(prefs);
+    }
+
+    @Override
+    public LabelNames getLabelNames() {
+        if (rawLabelNames != null) {
+            synchronized (this) {
+                if (rawLabelNames != null) {
+                    super.setLabelNames(decode(LABEL_NAMES_READER, "labelNames", rawLabelNames));
+                    rawLabelNames = null;
+                }
+            }
+        }
+        return super.getLabelNames();
+    }
+
+    @Override
+    public synchronized void setLabelNames(LabelNames labelNames) {
+        rawLabelNames = null;
+        super.setLabelNames(labelNames);
+    }
+
+    @Override
+    public Limits getLimits() {
+        if (rawLimits != null) {
+            synchronized (this) {
+                if (rawLimits != null) {
+                    super.setLimits(decode(LIMITS_READER, "limits", rawLimits));
+                    rawLimits = null;
+                }
+            }
+        }
+        return super.getLimits();
+    }
+
+    @Override
+    public synchronized void setLimits(Limits limits) {
+        rawLimits = null;
+        super.setLimits(limits);
+    }
+
+    /**
+     * The generated {@code equals}, {@code hashCode} and {@code toString} read the fields directly,
+     * so this board, and the other one when it is lazy too, are decoded first.
+     */
+    @Override
+    public boolean equals(Object other) {
+        decodeAll();
+        if (other instanceof LazyTrelloBoard) {
+            ((LazyTrelloBoard) other).decodeAll();
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        decodeAll();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        decodeAll();
+        return super.toString();
+    }
+
+    private void decodeAll() {
+        getPrefs();
+        getLabelNames();
+        getLimits();
+    }
+
+    /**
+     * The top-level parse skipped these objects, so they are validated here, against the board sample's field.
+     */
+    private static <T> T decode(ObjectReader reader, String field, RawJson raw) {
+        SchemaValidator validator = BoardReader.isValidating()
+            ? SchemaValidator.forType(TrelloBoard.class).field(field)
+            : null;
+        if (validator == null) {
+            try {
+                return reader.readValue(raw.bytes(), raw.offset(), raw.length());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        try (JsonParser parser = validator.wrap(
+            reader.getFactory().createParser(raw.bytes(), raw.offset(), raw.length()))) {
+            return reader.readValue(parser);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
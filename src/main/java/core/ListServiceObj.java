@@ -0,0 +1,64 @@
+package core;
+
+import beans.TrelloCard;
+import beans.TrelloList;
+import constants.ListParameters;
+import io.restassured.http.Method;
+import java.net.URI;
+
+/**
+ * Trello lists, sent through the same REST Assured client, scheduler and logging as {@link TrelloServiceObj}.
+ * The pluggable {@link Transport} carries only whole-board requests.
+ */
+public final class ListServiceObj {
+    public static final URI LIST_URI = URI.create("/1/lists/");
+
+    private ListServiceObj() {
+    }
+
+    public static TrelloList createList(String name, String idBoard, int status) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.POST)
+            .setTarget(listUri(""))
+            .setParameter(ListParameters.NAME.getParameterName(), name)
+            .setParameter(ListParameters.ID_BOARD.getParameterName(), idBoard)
+            .buildRequest()
+            .entityRequest(status, TrelloList.class);
+    }
+
+    public static TrelloList getList(String id, int status) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(listUri(id))
+            .buildRequest()
+            .entityRequest(status, TrelloList.class);
+    }
+
+    public static TrelloList archiveList(String id, int status) {
+        return setClosed(id, true, status);
+    }
+
+    public static TrelloList setClosed(String id, boolean closed, int status) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.PUT)
+            .setTarget(listUri(id + "/closed"))
+            .setParameter(ListParameters.VALUE.getParameterName(), String.valueOf(closed))
+            .buildRequest()
+            .entityRequest(status, TrelloList.class);
+    }
+
+    /**
+     * Cards are parsed one at a time as the body arrives; close the iterator if you stop early.
+     */
+    public static JsonArrayIterator<TrelloCard> getCards(String idList, int status) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(listUri(idList + "/cards"))
+            .buildRequest()
+            .streamRequest(status, TrelloCard.class);
+    }
+
+    public static URI listUri(String path) {
+        return TrelloServiceObj.getBaseUri().resolve(LIST_URI).resolve(path);
+    }
+}
@@ -0,0 +1,8 @@
+package core;
+
+/**
+ * One JSON value inside a larger body, kept undecoded. The array is shared with a single-board body; boards
+ * read from a batch get their own copies, so each does not keep the whole response alive.
+ */
+record RawJson(byte[] bytes, int offset, int length) {
+}
@@ -0,0 +1,248 @@
+package core;
+
+import constants.LogMode;
+import io.restassured.http.Header;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Request/response logging that never blocks the request thread on console I/O.
+ * Entries are formatted only when the mode selects them and are handed to a daemon writer
+ * through a bounded buffer; when the buffer is full the entry is dropped and counted.
+ */
+public final class RequestLogger implements AutoCloseable {
+    private static final String MASK = "***";
+
+    private final LogMode mode;
+    private final int sampleRate;
+    private final int maxBodyLength;
+    private final Consumer<String> sink;
+    private final BlockingQueue<String> buffer;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+
+    private RequestLogger(Builder builder) {
+        this.mode = builder.mode;
+        this.sampleRate = Math.max(1, builder.sampleRate);
+        this.maxBodyLength = builder.maxBodyLength;
+        this.sink = builder.sink;
+        this.buffer = new ArrayBlockingQueue<>(builder.capacity);
+
+        writer = new Thread(this::write, "request-logger");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Logger configured by {@code trello.log.mode}, {@code trello.log.sampleRate},
+     * {@code trello.log.maxBody} and {@code trello.log.buffer}; defaults to {@link LogMode#ON_FAILURE}.
+     */
+    public static RequestLogger fromSystemProperties() {
+        return builder()
+            .setMode(LogMode.valueOf(System.getProperty("trello.log.mode", LogMode.ON_FAILURE.name())))
+            .setSampleRate(Integer.getInteger("trello.log.sampleRate", 100))
+            .setMaxBodyLength(Integer.getInteger("trello.log.maxBody", 4096))
+            .setCapacity(Integer.getInteger("trello.log.buffer", 1024))
+            .build();
+    }
+
+    public boolean shouldLog(boolean failed) {
+        switch (mode) {
+            case FULL:
+                return true;
+            case SAMPLED:
+                return failed || requests.incrementAndGet() % sampleRate == 0;
+            case ON_FAILURE:
+                return failed;
+            default:
+                return false;
+        }
+    }
+
+    public void log(Method method, URI target, Map<String, String> parameters, Response response, boolean failed) {
+        log(method, target, parameters, response, failed, true);
+    }
+
+    /**
+     * @param withBody {@code false} for a body that is still being streamed to its parser, which logging
+     *                 would otherwise read ahead of
+     */
+    public void log(Method method, URI target, Map<String, String> parameters, Response response, boolean failed,
+                    boolean withBody) {
+        if (shouldLog(failed)) {
+            submit(format(method, target, parameters, response, failed, withBody));
+        }
+    }
+
+    /**
+     * Buffers the body of a response that is logged, so it can still be parsed afterwards.
+     *
+     * @return {@code response}, or its buffered copy when it was logged
+     */
+    public TransportResponse log(Method method, URI target, Map<String, String> parameters,
+                                 TransportResponse response, boolean failed) {
+        if (!shouldLog(failed)) {
+            return response;
+        }
+        TransportResponse buffered = response.buffered();
+        StringBuilder entry = entryHead(method, target, parameters, failed);
+        entry.append("  ").append(buffered.statusCode()).append('\n');
+        buffered.headers().forEach((name, values) -> values.forEach(value ->
+            entry.append("  ").append(name).append(": ").append(value).append('\n')));
+        appendBody(entry, buffered.body());
+        submit(entry.toString());
+        return buffered;
+    }
+
+    public void submit(String entry) {
+        if (!buffer.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long droppedEntries() {
+        return dropped.get();
+    }
+
+    /**
+     * Stops the writer after the buffered entries have been written.
+     */
+    @Override
+    public void close() {
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String format(Method method, URI target, Map<String, String> parameters, Response response,
+                          boolean failed, boolean withBody) {
+        StringBuilder entry = entryHead(method, target, parameters, failed);
+        entry.append("  ").append(response.statusLine()).append(" in ").append(response.time()).append(" ms\n");
+        for (Header header : response.headers()) {
+            entry.append("  ").append(header.getName()).append(": ").append(header.getValue()).append('\n');
+        }
+        if (withBody) {
+            // REST Assured keeps the bytes once read, so the body can still be parsed after it is logged
+            appendBody(entry, new ByteArrayInputStream(response.asByteArray()));
+        } else {
+            entry.append("  (streamed body not logged)");
+        }
+        return entry.toString();
+    }
+
+    private static StringBuilder entryHead(Method method, URI target, Map<String, String> parameters,
+                                           boolean failed) {
+        StringBuilder entry = new StringBuilder(256);
+        entry.append(failed ? "FAILED " : "").append(method).append(' ').append(target).append('\n');
+        parameters.forEach((name, value) -> entry.append("  param ").append(name).append('=')
+            .append("token".equals(name) || "key".equals(name) ? MASK : value).append('\n'));
+        return entry;
+    }
+
+    /**
+     * Appends at most {@code maxBodyLength} bytes of the body, cut back to a whole UTF-8 character, and
+     * counts the rest without holding it.
+     */
+    private void appendBody(StringBuilder entry, InputStream body) {
+        try (body) {
+            byte[] head = body.readNBytes(maxBodyLength);
+            long rest = body.transferTo(OutputStream.nullOutputStream());
+            if (rest == 0) {
+                entry.append("  ").append(new String(head, StandardCharsets.UTF_8));
+                return;
+            }
+            int length = codePointBoundary(head);
+            entry.append("  ").append(new String(head, 0, length, StandardCharsets.UTF_8))
+                .append("... (").append(rest + head.length - length).append(" more bytes)");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @return the length of {@code bytes} without a trailing incomplete UTF-8 sequence
+     */
+    private static int codePointBoundary(byte[] bytes) {
+        int lead = bytes.length - 1;
+        while (lead > 0 && lead > bytes.length - 4 && (bytes[lead] & 0xC0) == 0x80) {
+            lead--;
+        }
+        if (lead < 0) {
+            return 0;
+        }
+        int b = bytes[lead] & 0xFF;
+        int sequence = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : b >= 0xC0 ? 2 : 1;
+        return lead + sequence > bytes.length ? lead : bytes.length;
+    }
+
+    private void write() {
+        try {
+            while (true) {
+                sink.accept(buffer.take());
+            }
+        } catch (InterruptedException ex) {
+            String entry;
+            while ((entry = buffer.poll()) != null) {
+                sink.accept(entry);
+            }
+        }
+    }
+
+    public static class Builder {
+        private LogMode mode = LogMode.ON_FAILURE;
+        private int sampleRate = 100;
+        private int maxBodyLength = 4096;
+        private int capacity = 1024;
+        private Consumer<String> sink = System.out::println;
+
+        public Builder setMode(LogMode mode) {
+            this.mode = mode;
+            return this;
+        }
+
+        public Builder setSampleRate(int sampleRate) {
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public Builder setMaxBodyLength(int maxBodyLength) {
+            this.maxBodyLength = maxBodyLength;
+            return this;
+        }
+
+        public Builder setCapacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Builder setSink(Consumer<String> sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        public RequestLogger build() {
+            return new RequestLogger(this);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package core;
+
+import io.restassured.response.Response;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Client-side admission control in front of every request to a rate-limited host.
+ * <p>
+ * Each request takes a permit from a per-key and a per-token bucket sized to Trello's published
+ * limits (300 and 100 requests per 10 s), then a slot under an AIMD concurrency limit. The limit
+ * grows by {@code 1/limit} per healthy response and halves on HTTP 429 or when the
+ * {@code x-rate-limit-*-remaining} headers drop below {@link Builder#setLowWatermark}. A 429 is retried
+ * after {@code Retry-After}, or exponential backoff with full jitter when the header is absent.
+ */
+public final class RequestScheduler {
+    public static final String KEY_REMAINING = "x-rate-limit-api-key-remaining";
+    public static final String KEY_MAX = "x-rate-limit-api-key-max";
+    public static final String TOKEN_REMAINING = "x-rate-limit-api-token-remaining";
+    public static final String TOKEN_MAX = "x-rate-limit-api-token-max";
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final Set<String> limitedHosts;
+    private final TokenBucket keyBucket;
+    private final TokenBucket tokenBucket;
+    private final AdaptiveLimit concurrency;
+    private final double lowWatermark;
+    private final int maxRetries;
+    private final long baseBackoffNanos;
+    private final long maxBackoffNanos;
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    private RequestScheduler(Builder builder) {
+        this.limitedHosts = builder.limitedHosts == null ? null : Set.copyOf(builder.limitedHosts);
+        this.keyBucket = new TokenBucket(builder.keyRequests, builder.keyWindow);
+        this.tokenBucket = new TokenBucket(builder.tokenRequests, builder.tokenWindow);
+        this.concurrency = new AdaptiveLimit(builder.minConcurrency, builder.initialConcurrency,
+            builder.maxConcurrency);
+        this.lowWatermark = builder.lowWatermark;
+        this.maxRetries = builder.maxRetries;
+        this.baseBackoffNanos = builder.baseBackoff.toNanos();
+        this.maxBackoffNanos = builder.maxBackoff.toNanos();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs {@code call} under the scheduler when {@code target} is a rate-limited host.
+     *
+     * @return the first non-429 response, or the last 429 once retries are exhausted
+     */
+    public Response execute(URI target, Supplier<Response> call) {
+        return schedule(target, call, Response::statusCode, Response::header, Response::asByteArray);
+    }
+
+    /**
+     * {@link #execute} for a {@link Transport} exchange.
+     */
+    public TransportResponse send(URI target, Supplier<TransportResponse> call) {
+        return schedule(target, call, TransportResponse::statusCode, TransportResponse::header,
+            TransportResponse::discard);
+    }
+
+    /**
+     * {@link #send} without holding a thread: the bucket delay, the wait for a concurrency slot and the
+     * backoff before a retry are scheduled rather than slept through, so a non-blocking
+     * {@link Transport#sendAsync} stays non-blocking against a rate-limited host.
+     */
+    public CompletableFuture<TransportResponse> sendAsync(URI target,
+                                                          Supplier<CompletableFuture<TransportResponse>> call) {
+        if (!limits(target)) {
+            return call.get();
+        }
+        return attemptAsync(call, 0);
+    }
+
+    private CompletableFuture<TransportResponse> attemptAsync(Supplier<CompletableFuture<TransportResponse>> call,
+                                                              int attempt) {
+        return after(Math.max(keyBucket.reserve(), tokenBucket.reserve()))
+            .thenCompose(ignored -> concurrency.acquireAsync())
+            .thenCompose(ignored -> {
+                CompletableFuture<TransportResponse> sent;
+                boolean called = false;
+                try {
+                    sent = call.get();
+                    called = true;
+                } finally {
+                    // REST Assured throws checked IOExceptions undeclared, so no catch clause sees them all
+                    if (!called) {
+                        concurrency.release(false, false);
+                    }
+                }
+                return sent.whenComplete((response, ex) -> {
+                    if (ex != null) {
+                        concurrency.release(false, false);
+                    } else if (response.statusCode() == TOO_MANY_REQUESTS) {
+                        concurrency.release(false, true);
+                    } else {
+                        concurrency.release(true, nearLimit(response::header));
+                    }
+                });
+            })
+            .thenCompose(response -> {
+                if (response.statusCode() != TOO_MANY_REQUESTS) {
+                    return CompletableFuture.completedFuture(response);
+                }
+                throttled.increment();
+                if (attempt >= maxRetries) {
+                    return CompletableFuture.completedFuture(response);
+                }
+                response.discard();
+                retries.increment();
+                return after(backoffNanos(attempt, response.header("Retry-After")))
+                    .thenCompose(ignored -> attemptAsync(call, attempt + 1));
+            });
+    }
+
+    /**
+     * @return whether requests to {@code target} wait for rate-limit and concurrency permits
+     */
+    public boolean limits(URI target) {
+        return limitedHosts == null || limitedHosts.contains(target.getHost());
+    }
+
+    private <R> R schedule(URI target, Supplier<R> call, ToIntFunction<R> status,
+                           BiFunction<R, String, String> header, Consumer<R> discard) {
+        if (!limits(target)) {
+            return call.get();
+        }
+        for (int attempt = 0; ; attempt++) {
+            sleepNanos(Math.max(keyBucket.reserve(), tokenBucket.reserve()));
+            concurrency.acquire();
+            R response;
+            boolean called = false;
+            try {
+                response = call.get();
+                called = true;
+            } finally {
+                // REST Assured throws checked IOExceptions undeclared, so no catch clause sees them all
+                if (!called) {
+                    concurrency.release(false, false);
+                }
+            }
+
+            if (status.applyAsInt(response) != TOO_MANY_REQUESTS) {
+                concurrency.release(true, nearLimit(name -> header.apply(response, name)));
+                return response;
+            }
+            concurrency.release(false, true);
+            throttled.increment();
+            if (attempt >= maxRetries) {
+                return response;
+            }
+            discard.accept(response);
+            retries.increment();
+            sleepNanos(backoffNanos(attempt, header.apply(response, "Retry-After")));
+        }
+    }
+
+    public long throttledResponses() {
+        return throttled.sum();
+    }
+
+    public long retries() {
+        return retries.sum();
+    }
+
+    public double concurrencyLimit() {
+        return concurrency.limit();
+    }
+
+    private boolean nearLimit(UnaryOperator<String> header) {
+        return belowWatermark(header.apply(KEY_REMAINING), header.apply(KEY_MAX))
+            || belowWatermark(header.apply(TOKEN_REMAINING), header.apply(TOKEN_MAX));
+    }
+
+    private boolean belowWatermark(String remaining, String max) {
+        if (remaining == null || max == null) {
+            return false;
+        }
+        try {
+            return Long.parseLong(remaining) < Long.parseLong(max) * lowWatermark;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    private long backoffNanos(int attempt, String retryAfter) {
+        if (retryAfter != null) {
+            try {
+                return TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException ex) {
+                // HTTP-date form, fall back to exponential backoff
+            }
+        }
+        long ceiling = Math.min(maxBackoffNanos, baseBackoffNanos << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static CompletableFuture<Void> after(long nanos) {
+        if (nanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS));
+    }
+
+    private static void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a rate-limit permit", ex);
+        }
+    }
+
+    /**
+     * Reservation-style token bucket: a caller always takes a token and sleeps off any deficit,
+     * so the lock is held only for the arithmetic.
+     */
+    private static final class TokenBucket {
+        private final double capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        TokenBucket(int requests, Duration window) {
+            this.capacity = requests;
+            this.tokensPerNano = requests / (double) window.toNanos();
+            this.tokens = requests;
+        }
+
+        synchronized long reserve() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+        }
+    }
+
+    private static final class AdaptiveLimit {
+        private final double min;
+        private final double max;
+        private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private double limit;
+        private int inFlight;
+
+        AdaptiveLimit(int min, int initial, int max) {
+            this.min = min;
+            this.max = max;
+            this.limit = initial;
+        }
+
+        synchronized void acquire() {
+            try {
+                while (inFlight >= (int) limit) {
+                    wait();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a concurrency slot", ex);
+            }
+            inFlight++;
+        }
+
+        /**
+         * Completes once a slot is taken, on the thread that released it when one has to be waited for.
+         */
+        CompletableFuture<Void> acquireAsync() {
+            synchronized (this) {
+                if (waiters.isEmpty() && inFlight < (int) limit) {
+                    inFlight++;
+                    return CompletableFuture.completedFuture(null);
+                }
+                CompletableFuture<Void> slot = new CompletableFuture<>();
+                waiters.add(slot);
+                return slot;
+            }
+        }
+
+        void release(boolean success, boolean overloaded) {
+            List<CompletableFuture<Void>> admitted = new ArrayList<>();
+            synchronized (this) {
+                inFlight--;
+                if (overloaded) {
+                    limit = Math.max(min, limit / 2);
+                } else if (success) {
+                    limit = Math.min(max, limit + 1 / limit);
+                }
+                while (!waiters.isEmpty() && inFlight < (int) limit) {
+                    inFlight++;
+                    admitted.add(waiters.poll());
+                }
+                notifyAll();
+            }
+            admitted.forEach(slot -> slot.complete(null));
+        }
+
+        synchronized double limit() {
+            return limit;
+        }
+    }
+
+    public static class Builder {
+        private Set<String> limitedHosts = Set.of(TrelloServiceObj.TRELLO_URL.getHost());
+        private int keyRequests = 300;
+        private Duration keyWindow = Duration.ofSeconds(10);
+        private int tokenRequests = 100;
+        private Duration tokenWindow = Duration.ofSeconds(10);
+        private int minConcurrency = 1;
+        private int initialConcurrency = 8;
+        private int maxConcurrency = 64;
+        private double lowWatermark = 0.1;
+        private int maxRetries = 5;
+        private Duration baseBackoff = Duration.ofMillis(250);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+
+        public Builder setLimitedHosts(String... hosts) {
+            this.limitedHosts = Set.of(hosts);
+            return this;
+        }
+
+        public Builder limitAllHosts() {
+            this.limitedHosts = null;
+            return this;
+        }
+
+        public Builder setKeyLimit(int requests, Duration window) {
+            this.keyRequests = requests;
+            this.keyWindow = window;
+            return this;
+        }
+
+        public Builder setTokenLimit(int requests, Duration window) {
+            this.tokenRequests = requests;
+            this.tokenWindow = window;
+            return this;
+        }
+
+        public Builder setConcurrency(int min, int initial, int max) {
+            this.minConcurrency = min;
+            this.initialConcurrency = initial;
+            this.maxConcurrency = max;
+            return this;
+        }
+
+        public Builder setLowWatermark(double fractionRemaining) {
+            this.lowWatermark = fractionRemaining;
+            return this;
+        }
+
+        public Builder setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        public Builder setBackoff(Duration base, Duration max) {
+            this.baseBackoff = base;
+            this.maxBackoff = max;
+            return this;
+        }
+
+        public RequestScheduler build() {
+            return new RequestScheduler(this);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package core;
+
+import io.restassured.RestAssured;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The REST Assured request path: the shared base spec and the {@link ConnectionPool} installed on
+ * {@link TrelloServiceObj}, credentials as request parameters and the rest as query parameters. Blocking.
+ */
+public final class RestAssuredTransport implements Transport {
+
+    @Override
+    public TransportResponse send(TransportRequest request) {
+        Response response = RestAssured
+            .with()
+            .spec(SpecRegistry.baseRequest())
+            .config(TrelloServiceObj.getConnectionPool().restAssuredConfig())
+            .param("key", request.credentials().key())
+            .param("token", request.credentials().token())
+            .queryParams(request.parameters())
+            .headers(request.headers())
+            .request(request.method(), request.target());
+        return new Exchange(response);
+    }
+
+    /**
+     * REST Assured keeps a body once it has been read, so this response is always replayable.
+     */
+    private static final class Exchange implements TransportResponse {
+        private final Response response;
+
+        Exchange(Response response) {
+            this.response = response;
+        }
+
+        @Override
+        public int statusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String contentType() {
+            return response.header("Content-Type");
+        }
+
+        @Override
+        public String header(String name) {
+            return response.header(name);
+        }
+
+        @Override
+        public Map<String, List<String>> headers() {
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (Header header : response.headers()) {
+                headers.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+            }
+            return headers;
+        }
+
+        @Override
+        public InputStream body() {
+            return response.asInputStream();
+        }
+
+        @Override
+        public void discard() {
+            response.asByteArray();
+        }
+
+        @Override
+        public TransportResponse buffered() {
+            response.asByteArray();
+            return this;
+        }
+    }
+}
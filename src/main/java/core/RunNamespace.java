@@ -0,0 +1,108 @@
+package core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Run-specific prefix for the names of boards created by tests, e.g. {@code "tt-r2k1x0-a7f3-"},
+ * so leaked boards can be traced to the run that created them and reaped by {@link BoardReaper}.
+ * The prefix encodes the run's start second, which is how boards from stale runs are recognized, and a
+ * four-character tag: two random characters and a two-character check over the rest of the prefix. Only
+ * names with exactly that shape, a valid check and a plausible start count as run boards, so a user's board
+ * that merely starts with {@link #MARKER} is never reaped.
+ */
+public final class RunNamespace {
+    public static final String MARKER = "tt-";
+
+    /**
+     * No run started before run namespaces were introduced.
+     */
+    static final Instant EARLIEST_START = Instant.parse("2026-10-01T00:00:00Z");
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(1);
+    private static final int RADIX = Character.MAX_RADIX;
+    private static final Pattern PREFIX = Pattern.compile(
+        Pattern.quote(MARKER) + "([0-9a-z]{6,7})-([0-9a-z]{2})([0-9a-z]{2})-");
+
+    private static final RunNamespace CURRENT = startedAt(Instant.now());
+
+    private final Instant started;
+    private final String prefix;
+
+    private RunNamespace(Instant started, String random) {
+        this.started = started;
+        String seconds = Long.toString(started.getEpochSecond(), RADIX);
+        this.prefix = MARKER + seconds + "-" + random + check(seconds, random) + "-";
+    }
+
+    /**
+     * @return the namespace of this JVM's run
+     */
+    public static RunNamespace current() {
+        return CURRENT;
+    }
+
+    /**
+     * @return a namespace with a fresh tag for a run that started at {@code started}
+     */
+    public static RunNamespace startedAt(Instant started) {
+        return new RunNamespace(started, base36(new SecureRandom().nextInt(RADIX * RADIX), 2));
+    }
+
+    public Instant started() {
+        return started;
+    }
+
+    public String prefix() {
+        return prefix;
+    }
+
+    public String name(String suffix) {
+        return prefix + suffix;
+    }
+
+    public boolean owns(String boardName) {
+        return boardName != null && boardName.startsWith(prefix);
+    }
+
+    /**
+     * @return when the run that named the board started, or empty for boards not named by a run
+     */
+    public static Optional<Instant> startOf(String boardName) {
+        if (boardName == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = PREFIX.matcher(boardName);
+        if (!matcher.lookingAt()) {
+            return Optional.empty();
+        }
+        String seconds = matcher.group(1);
+        long epochSecond = Long.parseLong(seconds, RADIX);
+        // canonical encoding only, so "tt-0..." look-alikes with the same value do not match
+        if (!Long.toString(epochSecond, RADIX).equals(seconds)
+            || !check(seconds, matcher.group(2)).equals(matcher.group(3))) {
+            return Optional.empty();
+        }
+        Instant started = Instant.ofEpochSecond(epochSecond);
+        if (started.isBefore(EARLIEST_START) || started.isAfter(Instant.now().plus(CLOCK_SKEW))) {
+            return Optional.empty();
+        }
+        return Optional.of(started);
+    }
+
+    private static String check(String seconds, String random) {
+        CRC32 crc = new CRC32();
+        crc.update((MARKER + seconds + "-" + random).getBytes(StandardCharsets.US_ASCII));
+        return base36((int) (crc.getValue() % (RADIX * RADIX)), 2);
+    }
+
+    private static String base36(int value, int width) {
+        String digits = Integer.toString(value, RADIX);
+        return "0".repeat(width - digits.length()) + digits;
+    }
+}
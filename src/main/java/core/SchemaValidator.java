@@ -0,0 +1,295 @@
+package core;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks a response against the sample it was generated from ({@code src/main/resources/schemes}) while it is
+ * being deserialized. Each sample is compiled once into a tree of expected JSON types: every field present in the
+ * sample must keep the sample's type, {@code null} is always accepted, fields that are {@code null} in the sample
+ * accept anything and fields missing from the sample are not checked. {@link #wrap(JsonParser)} checks every token
+ * as the reader pulls it, so there is no second walk over the body and nothing is buffered.
+ */
+public final class SchemaValidator {
+    private static final String SCHEMES = "/schemes/";
+    private static final Map<Class<?>, SchemaValidator> VALIDATORS = new ConcurrentHashMap<>();
+
+    private final Shape root;
+
+    private SchemaValidator(Shape root) {
+        this.root = root;
+    }
+
+    /**
+     * @return the validator compiled from {@code /schemes/<simple name>.json}, or {@code null} when there is none
+     */
+    public static SchemaValidator forType(Class<?> type) {
+        return VALIDATORS.computeIfAbsent(type, SchemaValidator::compile);
+    }
+
+    /**
+     * @return a validator for a JSON array whose elements are checked by this validator
+     */
+    public SchemaValidator arrayOf() {
+        return new SchemaValidator(Shape.array(root));
+    }
+
+    /**
+     * @return a validator for the value of {@code name} in this object, or {@code null} when the sample has no such
+     * object field
+     */
+    public SchemaValidator field(String name) {
+        Shape shape = root.fields == null ? null : root.fields.get(name);
+        return shape == null || shape.kind != Kind.OBJECT ? null : new SchemaValidator(shape);
+    }
+
+    /**
+     * The returned parser reports the first mismatch as a {@link JsonParseException} naming the field path. When
+     * {@code parser} is already on a {@code START_OBJECT} or {@code START_ARRAY} (a value inside a larger body),
+     * validation starts there and stops once that value ends.
+     */
+    public JsonParser wrap(JsonParser parser) {
+        return new ValidatingParser(parser, root);
+    }
+
+    private static SchemaValidator compile(Class<?> type) {
+        try (InputStream sample = SchemaValidator.class.getResourceAsStream(SCHEMES + type.getSimpleName() + ".json")) {
+            if (sample == null) {
+                return null;
+            }
+            return new SchemaValidator(Shape.of(BoardReader.mapper().readTree(sample)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private enum Kind {
+        ANY, OBJECT, ARRAY, STRING, NUMBER, BOOLEAN
+    }
+
+    private static final class Shape {
+        private static final Shape ANY = new Shape(Kind.ANY, null, null);
+
+        final Kind kind;
+        final Map<String, Shape> fields;
+        final Shape element;
+
+        private Shape(Kind kind, Map<String, Shape> fields, Shape element) {
+            this.kind = kind;
+            this.fields = fields;
+            this.element = element;
+        }
+
+        static Shape array(Shape element) {
+            return new Shape(Kind.ARRAY, null, element);
+        }
+
+        static Shape of(JsonNode sample) {
+            switch (sample.getNodeType()) {
+                case OBJECT:
+                    Map<String, Shape> fields = new HashMap<>();
+                    for (Iterator<Map.Entry<String, JsonNode>> it = sample.fields(); it.hasNext(); ) {
+                        Map.Entry<String, JsonNode> field = it.next();
+                        fields.put(field.getKey(), of(field.getValue()));
+                    }
+                    return new Shape(Kind.OBJECT, fields, null);
+                case ARRAY:
+                    return array(sample.size() == 0 ? ANY : of(sample.get(0)));
+                case STRING:
+                    return new Shape(Kind.STRING, null, null);
+                case NUMBER:
+                    return new Shape(Kind.NUMBER, null, null);
+                case BOOLEAN:
+                    return new Shape(Kind.BOOLEAN, null, null);
+                default:
+                    return ANY;
+            }
+        }
+
+        /**
+         * @return the shape of field {@code name}; unknown fields are not checked
+         */
+        Shape field(String name) {
+            if (fields == null) {
+                return ANY;
+            }
+            Shape shape = fields.get(name);
+            return shape == null ? ANY : shape;
+        }
+
+        boolean accepts(JsonToken token) {
+            switch (kind) {
+                case ANY:
+                    return true;
+                case OBJECT:
+                    return token == JsonToken.START_OBJECT;
+                case ARRAY:
+                    return token == JsonToken.START_ARRAY;
+                case STRING:
+                    return token == JsonToken.VALUE_STRING;
+                case NUMBER:
+                    return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+                default:
+                    return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE;
+            }
+        }
+    }
+
+    /**
+     * Keeps one frame per open object or array: its shape and, for objects, the current field name and shape.
+     * Every method that advances the underlying parser goes through {@link #nextToken()}.
+     */
+    private static final class ValidatingParser extends JsonParserDelegate {
+        private Shape[] containers = new Shape[8];
+        private Shape[] values = new Shape[8];
+        private String[] names = new String[8];
+        private int depth;
+        private boolean done;
+        private final Shape root;
+
+        ValidatingParser(JsonParser parser, Shape root) {
+            super(parser);
+            this.root = root;
+            JsonToken current = parser.currentToken();
+            if (current == JsonToken.START_OBJECT || current == JsonToken.START_ARRAY) {
+                try {
+                    value(root, current);
+                } catch (JsonParseException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = delegate.nextToken();
+            if (token == null || done) {
+                return token;
+            }
+            switch (token) {
+                case FIELD_NAME:
+                    String name = delegate.currentName();
+                    names[depth - 1] = name;
+                    values[depth - 1] = containers[depth - 1].field(name);
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    pop();
+                    break;
+                default:
+                    value(depth == 0 ? root : expected(), token);
+            }
+            return token;
+        }
+
+        @Override
+        public JsonToken nextValue() throws IOException {
+            JsonToken token = nextToken();
+            return token == JsonToken.FIELD_NAME ? nextToken() : token;
+        }
+
+        @Override
+        public String nextFieldName() throws IOException {
+            return nextToken() == JsonToken.FIELD_NAME ? delegate.currentName() : null;
+        }
+
+        @Override
+        public boolean nextFieldName(SerializableString name) throws IOException {
+            return nextToken() == JsonToken.FIELD_NAME && name.getValue().equals(delegate.currentName());
+        }
+
+        @Override
+        public String nextTextValue() throws IOException {
+            return nextToken() == JsonToken.VALUE_STRING ? delegate.getText() : null;
+        }
+
+        @Override
+        public int nextIntValue(int defaultValue) throws IOException {
+            return nextToken() == JsonToken.VALUE_NUMBER_INT ? delegate.getIntValue() : defaultValue;
+        }
+
+        @Override
+        public long nextLongValue(long defaultValue) throws IOException {
+            return nextToken() == JsonToken.VALUE_NUMBER_INT ? delegate.getLongValue() : defaultValue;
+        }
+
+        @Override
+        public Boolean nextBooleanValue() throws IOException {
+            JsonToken token = nextToken();
+            return token == JsonToken.VALUE_TRUE ? Boolean.TRUE : token == JsonToken.VALUE_FALSE ? Boolean.FALSE : null;
+        }
+
+        /**
+         * Skipped values are not checked, only their frame is dropped.
+         */
+        @Override
+        public JsonParser skipChildren() throws IOException {
+            JsonToken current = delegate.currentToken();
+            if (current == JsonToken.START_OBJECT || current == JsonToken.START_ARRAY) {
+                delegate.skipChildren();
+                if (!done) {
+                    pop();
+                }
+            }
+            return this;
+        }
+
+        private Shape expected() {
+            Shape container = containers[depth - 1];
+            if (container.kind == Kind.ARRAY) {
+                return container.element;
+            }
+            return container.kind == Kind.ANY ? Shape.ANY : values[depth - 1];
+        }
+
+        private void value(Shape shape, JsonToken token) throws JsonParseException {
+            if (token != JsonToken.VALUE_NULL && !shape.accepts(token)) {
+                throw new JsonParseException(delegate, "Schema violation at " + path() + ": expected "
+                    + shape.kind.name().toLowerCase() + " but got " + token);
+            }
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                if (depth == containers.length) {
+                    containers = Arrays.copyOf(containers, depth * 2);
+                    values = Arrays.copyOf(values, depth * 2);
+                    names = Arrays.copyOf(names, depth * 2);
+                }
+                containers[depth] = shape;
+                names[depth] = null;
+                depth++;
+            } else if (depth == 0) {
+                done = true;
+            }
+        }
+
+        private void pop() {
+            depth--;
+            if (depth == 0) {
+                done = true;
+            }
+        }
+
+        private String path() {
+            StringBuilder path = new StringBuilder("$");
+            for (int i = 0; i < depth; i++) {
+                if (containers[i].kind == Kind.ARRAY) {
+                    path.append("[]");
+                } else if (names[i] != null) {
+                    path.append('.').append(names[i]);
+                }
+            }
+            return path.toString();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package core;
+
+import static io.restassured.http.ContentType.TEXT;
+import static io.restassured.http.ContentType.URLENC;
+
+import constants.ResponseStatus;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.apache.http.HttpStatus;
+
+/**
+ * Request and response specifications built once at class initialization.
+ * Specs are never mutated after construction, so they are shared by every request and thread.
+ * Response time is not part of the specs; it is tracked per endpoint by {@link LatencyStats}.
+ */
+public final class SpecRegistry {
+    private static final RequestSpecification BASE_REQUEST = new RequestSpecBuilder()
+        .setAccept(ContentType.JSON)
+        .setBaseUri(TrelloServiceObj.TRELLO_URL)
+        .setContentType(URLENC.withCharset(StandardCharsets.UTF_8))
+        .build();
+
+    private static final Map<Integer, Expectation> EXPECTATIONS = Map.of(
+        ResponseStatus.GOOD_RESPONSE, new Expectation(ContentType.JSON, HttpStatus.SC_OK),
+        ResponseStatus.BAD_RESPONSE, new Expectation(TEXT, HttpStatus.SC_BAD_REQUEST),
+        ResponseStatus.NOT_FOUND_RESPONSE, new Expectation(TEXT, HttpStatus.SC_NOT_FOUND)
+    );
+
+    private static final Map<Integer, ResponseSpecification> RESPONSES = EXPECTATIONS.entrySet().stream()
+        .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> entry.getValue().specification()));
+
+    private SpecRegistry() {
+    }
+
+    public static RequestSpecification baseRequest() {
+        return BASE_REQUEST;
+    }
+
+    /**
+     * @param status one of {@link ResponseStatus} constants
+     * @return shared spec for the status, or {@code null} if the status is not validated
+     */
+    public static ResponseSpecification response(int status) {
+        return RESPONSES.get(status);
+    }
+
+    /**
+     * Checks the status code and content type expected for {@code status} without reading the body,
+     * for responses that are consumed as a stream. Statuses that are not validated always pass.
+     */
+    public static void validateHead(int status, Response response) {
+        validateHead(status, response.statusCode(), response.contentType());
+    }
+
+    /**
+     * The same check for any {@link Transport}: only the status code and {@code Content-Type} header are needed.
+     */
+    public static void validateHead(int status, int statusCode, String contentType) {
+        Expectation expected = EXPECTATIONS.get(status);
+        if (expected == null) {
+            return;
+        }
+        if (statusCode != expected.statusCode()) {
+            throw new AssertionError("Expected status code <" + expected.statusCode()
+                + "> but was <" + statusCode + ">.");
+        }
+        if (contentType == null || ContentType.fromContentType(contentType) != expected.contentType()) {
+            throw new AssertionError("Expected content-type " + expected.contentType()
+                + " but was \"" + contentType + "\".");
+        }
+    }
+
+    private record Expectation(ContentType contentType, int statusCode) {
+        ResponseSpecification specification() {
+            return new ResponseSpecBuilder()
+                .expectContentType(contentType)
+                .expectStatusCode(statusCode)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Sends one board request and hands back the response with its body unread. Validation, scheduling, latency
+ * tracking and logging stay in {@link TrelloServiceObj}, so every transport behaves the same to its callers.
+ * Only whole-board requests ({@link TrelloServiceObj#boardRequest(int)} and
+ * {@link TrelloServiceObj#boardRequestAsync}) go through a transport; {@link TrelloServiceObj#sendRequest} and
+ * everything built on it, such as projections, streamed arrays, batch reads and the list, card and attachment
+ * clients, stay on REST Assured.
+ */
+public interface Transport {
+
+    TransportResponse send(TransportRequest request);
+
+    /**
+     * Runs {@link #send} on {@code executor} unless the transport has a non-blocking send of its own. The body is
+     * read before the task completes: an unread response can hold a pooled connection, and with the parse queued
+     * behind other sends on the same executor a burst wider than the pool would wait on itself.
+     */
+    default CompletableFuture<TransportResponse> sendAsync(TransportRequest request, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> send(request).buffered(), executor);
+    }
+
+    /**
+     * {@code -Dtrello.transport}: {@code restassured} (default) or {@code httpclient}.
+     */
+    static Transport fromSystemProperties() {
+        String name = System.getProperty("trello.transport", "restassured");
+        switch (name) {
+            case "restassured":
+                return new RestAssuredTransport();
+            case "httpclient":
+                return HttpClientTransport.builder().build();
+            default:
+                throw new IllegalArgumentException("Unknown trello.transport " + name);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package core;
+
+import io.restassured.http.Method;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * @param parameters request parameters, without the credentials
+ */
+public record TransportRequest(Method method, URI target, Map<String, String> parameters,
+                               Map<String, String> headers, Credentials credentials) {
+}
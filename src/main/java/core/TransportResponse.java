@@ -0,0 +1,38 @@
+package core;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A response whose body has not been read yet. Read {@link #body()} to the end and close it, or call
+ * {@link #discard()}, so the connection goes back to its pool.
+ */
+public interface TransportResponse {
+
+    int statusCode();
+
+    /**
+     * @return the {@code Content-Type} header, or {@code null}
+     */
+    String contentType();
+
+    /**
+     * @return the first value of the header, or {@code null}
+     */
+    String header(String name);
+
+    Map<String, List<String>> headers();
+
+    InputStream body();
+
+    /**
+     * Reads the rest of the body and drops it.
+     */
+    void discard();
+
+    /**
+     * @return a response whose body can be read more than once, e.g. to log it before it is parsed
+     */
+    TransportResponse buffered();
+}
@@ -1,53 +1,55 @@
 package core;
 
 import static constants.BoardParameters.NAME;
-import static io.restassured.http.ContentType.TEXT;
-import static io.restassured.http.ContentType.URLENC;
-import static org.hamcrest.Matchers.lessThan;
 
 import beans.TrelloBoard;
-import com.google.common.reflect.TypeToken;
-import com.google.gson.Gson;
 import constants.ResponseStatus;
 import io.restassured.RestAssured;
-import io.restassured.builder.RequestSpecBuilder;
-import io.restassured.builder.ResponseSpecBuilder;
-import io.restassured.http.ContentType;
 import io.restassured.http.Method;
 import io.restassured.response.Response;
-import io.restassured.specification.RequestSpecification;
 import io.restassured.specification.ResponseSpecification;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import org.apache.http.HttpStatus;
 
 public class TrelloServiceObj {
     public static final URI TRELLO_URL = URI.create("https://api.trello.com");
     public static final URI BOARD_URI = URI.create("/1/boards/");
-    private static final String PATH_TO_PROPERTIES = "src/test/resources/keyAndToken.properties";
-    private static String URL;
+    public static final URI BATCH_URI = URI.create("/1/batch");
+    public static final int BATCH_LIMIT = 10;
 
-    private static Properties properties;
-    private Map<String, String> parameters;
-    private Method requestMethod;
+    private static volatile URI baseUri = URI.create(System.getProperty("trello.url", TRELLO_URL.toString()));
+    private static volatile ConnectionPool connectionPool = ConnectionPool.builder().build();
+    private static volatile RequestScheduler requestScheduler = RequestScheduler.builder().build();
+    private static volatile RequestLogger requestLogger = RequestLogger.fromSystemProperties();
+    private static volatile Executor asyncExecutor = AsyncExecutors.cachedDaemonPool("trello-async");
+    private static volatile BoardCache boardCache;
+    private static volatile UpdateCoalescer updateCoalescer;
+    private static volatile Transport transport = Transport.fromSystemProperties();
 
-    private TrelloServiceObj(Map<String, String> parameters, Method method) {
-        this.parameters = parameters;
-        this.requestMethod = method;
+    private final Map<String, String> parameters;
+    private final Map<String, String> headers;
+    private final Method requestMethod;
+    private final URI target;
+    private final Transport requestTransport;
 
-        properties = new Properties();
-        try {
-            FileInputStream file = new FileInputStream(PATH_TO_PROPERTIES);
-            properties.load(file);
-            file.close();
-        } catch (IOException ex) {
-            ex.printStackTrace();
-        }
+    private TrelloServiceObj(Map<String, String> parameters, Map<String, String> headers, Method method,
+                             URI target, Transport transport) {
+        this.parameters = Map.copyOf(parameters);
+        this.headers = Map.copyOf(headers);
+        this.requestMethod = method;
+        this.target = target;
+        this.requestTransport = transport;
     }
 
     public static ApiRequestBuilder requestBuilder() {
@@ -56,13 +58,21 @@ public class TrelloServiceObj {
 
     public static class ApiRequestBuilder {
         private Map<String, String> parameters = new HashMap<>();
+        private Map<String, String> headers = new HashMap<>();
         private Method requestMethod = Method.GET;
+        private URI target = boardUri("");
+        private Transport transport;
 
         public ApiRequestBuilder setMethod(Method method) {
             this.requestMethod = method;
             return this;
         }
 
+        public ApiRequestBuilder setTarget(URI target) {
+            this.target = target;
+            return this;
+        }
+
         public ApiRequestBuilder setName(String name) {
             parameters.put(NAME.getParameterName(), name);
             return this;
@@ -73,111 +83,486 @@ public class TrelloServiceObj {
             return this;
         }
 
+        public ApiRequestBuilder setParameters(Map<String, String> parameters) {
+            this.parameters.putAll(parameters);
+            return this;
+        }
+
+        public ApiRequestBuilder setHeader(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        /**
+         * Sends {@link #boardRequest} through {@code transport} instead of the one installed on
+         * {@link TrelloServiceObj}.
+         */
+        public ApiRequestBuilder setTransport(Transport transport) {
+            this.transport = transport;
+            return this;
+        }
+
         public TrelloServiceObj buildRequest() {
-            return new TrelloServiceObj(parameters, requestMethod);
+            return new TrelloServiceObj(parameters, headers, requestMethod, target, transport);
         }
     }
 
-    private static RequestSpecification baseRequestSpecification() {
-        return new RequestSpecBuilder()
-            .setAccept(ContentType.JSON)
-            .setBaseUri(TRELLO_URL)
-            .addParam("key", properties.getProperty("key"))
-            .addParam("token", properties.getProperty("token"))
-            .build();
+    /**
+     * Goes through the request's {@link Transport}, or the installed one. Only the status code and content type
+     * are validated, as for streamed responses, so the board is parsed while the body is read on either transport.
+     */
+    public TrelloBoard boardRequest(int status) {
+        Transport current = transport();
+        TransportRequest request = transportRequest();
+        TransportResponse response = requestScheduler.send(target, () -> {
+            long start = System.nanoTime();
+            TransportResponse sent = current.send(request);
+            LatencyStats.record(requestMethod, target, System.nanoTime() - start);
+            return sent;
+        });
+        return formBoard(checked(status, response));
     }
 
-    public TrelloBoard boardRequest(int status) {
-        Response response = RestAssured
-            .with()
-            .spec(baseRequestSpecification())
-            .contentType(URLENC.withCharset(StandardCharsets.UTF_8))
-            .log().all()
-            .queryParams(parameters)
-            .request(requestMethod, URL)
-            .prettyPeek();
-
-        switch (status) {
-            case (ResponseStatus.GOOD_RESPONSE):
-                response.then().assertThat().spec(TrelloServiceObj.goodResponseSpecification());
-                break;
-            case (ResponseStatus.BAD_RESPONSE):
-                response.then().assertThat().spec(TrelloServiceObj.badResponseSpecification());
-                break;
-            case (ResponseStatus.NOT_FOUND_RESPONSE):
-                response.then().assertThat().spec(TrelloServiceObj.notFoundResponse());
-                break;
-        }
-
-        return formBoardFromResponse(response);
+    /**
+     * Sends the request over REST Assured, whatever {@link Transport} is installed, and validates the response
+     * against the spec for {@code status}.
+     * The latency of each attempt, excluding rate-limit waits, is recorded in {@link LatencyStats}.
+     */
+    public Response sendRequest(int status) {
+        ResponseSpecification expected = SpecRegistry.response(status);
+        return send(response -> {
+            if (expected != null) {
+                response.then().assertThat().spec(expected);
+            }
+        }, false);
     }
 
+    /**
+     * @param streamed a passing response's body is left unread for its parser, so it is not logged
+     */
+    private Response send(Consumer<Response> validation, boolean streamed) {
+        Credentials credentials = CredentialProvider.getDefault().get();
+        Response response = requestScheduler.execute(target, () -> {
+            long start = System.nanoTime();
+            Response sent = RestAssured
+                .with()
+                .spec(SpecRegistry.baseRequest())
+                .config(connectionPool.restAssuredConfig())
+                .param("key", credentials.key())
+                .param("token", credentials.token())
+                .queryParams(parameters)
+                .headers(headers)
+                .request(requestMethod, target);
+            LatencyStats.record(requestMethod, target, System.nanoTime() - start);
+            return sent;
+        });
+
+        boolean failed = false;
+        try {
+            validation.accept(response);
+        } catch (AssertionError ex) {
+            failed = true;
+            response.asByteArray();
+            throw ex;
+        } finally {
+            requestLogger.log(requestMethod, target, parameters, response, failed, failed || !streamed);
+        }
+        return response;
+    }
+
+    /**
+     * @return the 200 body read into the projection, otherwise {@code null} with the body drained
+     */
+    public <T extends Record> T boardRequest(int status, BoardProjection<T> projection) {
+        Response response = sendRequest(status);
+        if (HttpStatus.SC_OK == response.statusCode()) {
+            return projection.read(response.asInputStream());
+        }
+        response.asByteArray();
+        return null;
+    }
+
+    /**
+     * @return the parsed 200 body, otherwise {@code null} with the body drained
+     */
+    public <T> T entityRequest(int status, Class<T> type) {
+        Response response = sendRequest(status);
+        if (HttpStatus.SC_OK == response.statusCode()) {
+            return BoardReader.read(response.asInputStream(), type);
+        }
+        response.asByteArray();
+        return null;
+    }
+
+    /**
+     * Validates only the status line and content type, since any REST Assured spec buffers the whole body.
+     *
+     * @return the elements of a 200 JSON array body, parsed lazily; empty for any other status
+     */
+    public <T> JsonArrayIterator<T> streamRequest(int status, Class<T> type) {
+        Response response = send(sent -> SpecRegistry.validateHead(status, sent), true);
+        if (HttpStatus.SC_OK == response.statusCode()) {
+            return BoardReader.readArray(response.asInputStream(), type);
+        }
+        response.asByteArray();
+        return JsonArrayIterator.empty();
+    }
+
+    /**
+     * Uses the transport's own async send, with rate-limit permits handed out asynchronously by the
+     * {@link RequestScheduler}, so no thread waits while the request is queued or in flight. The body is parsed
+     * on {@code executor}.
+     */
+    public CompletableFuture<TrelloBoard> boardRequestAsync(int status, Executor executor) {
+        Transport current = transport();
+        TransportRequest request = transportRequest();
+        return requestScheduler.sendAsync(target, () -> {
+                long start = System.nanoTime();
+                return current.sendAsync(request, executor).thenApply(response -> {
+                    LatencyStats.record(requestMethod, target, System.nanoTime() - start);
+                    return response;
+                });
+            })
+            .thenApplyAsync(response -> formBoard(checked(status, response)), executor);
+    }
+
+    private Transport transport() {
+        return requestTransport != null ? requestTransport : transport;
+    }
+
+    private TransportRequest transportRequest() {
+        return new TransportRequest(requestMethod, target, parameters, headers, CredentialProvider.getDefault().get());
+    }
+
+    private TransportResponse checked(int status, TransportResponse response) {
+        AssertionError failure = null;
+        try {
+            SpecRegistry.validateHead(status, response.statusCode(), response.contentType());
+        } catch (AssertionError ex) {
+            failure = ex;
+        }
+        TransportResponse logged = requestLogger.log(requestMethod, target, parameters, response, failure != null);
+        if (failure != null) {
+            logged.discard();
+            throw failure;
+        }
+        return logged;
+    }
+
+    private static TrelloBoard formBoard(TransportResponse response) {
+        if (HttpStatus.SC_OK == response.statusCode()) {
+            return BoardReader.read(response.body());
+        }
+        response.discard();
+        return null;
+    }
+
+    /**
+     * Non-200 bodies are still read to the end so the pooled connection is released.
+     */
     public static TrelloBoard formBoardFromResponse(Response response) {
-        if (HttpStatus.SC_OK == response.then().extract().statusCode()) {
-            return new Gson().
-                fromJson(response.asString().trim(),
-                    new TypeToken<TrelloBoard>() {
-                    }.getType());
+        if (HttpStatus.SC_OK == response.statusCode()) {
+            return BoardReader.read(response.asInputStream());
         } else {
+            response.asByteArray();
             return null;
         }
     }
 
     public static TrelloBoard createBoard(String name, int status) {
-        URL = TRELLO_URL.toString() + BOARD_URI.toString();
+        return createRequest(name).boardRequest(status);
+    }
+
+    public static void deleteBoard(String id, int status) {
+        deleteBoard(id, status, boardCache);
+    }
+
+    /**
+     * Invalidates {@code cache} rather than the installed one; {@code null} for none. The board is deleted on
+     * the cache's API root, so the cache and the server agree.
+     */
+    public static void deleteBoard(String id, int status, BoardCache cache) {
+        try {
+            deleteRequest(boardUri(cache, id)).boardRequest(status);
+        } finally {
+            invalidate(cache, id);
+        }
+    }
+
+    /**
+     * Served by the {@link BoardCache} when one is installed and a 200 is expected.
+     */
+    public static TrelloBoard getBoard(String id, int status) {
+        return getBoard(id, status, boardCache);
+    }
+
+    /**
+     * Served by {@code cache} rather than the installed one when a 200 is expected; {@code null} for none.
+     * Otherwise the board is read from the cache's API root.
+     */
+    public static TrelloBoard getBoard(String id, int status, BoardCache cache) {
+        if (cache != null && status == ResponseStatus.GOOD_RESPONSE) {
+            return cache.get(id);
+        }
+        return getRequest(boardUri(cache, id)).boardRequest(status);
+    }
+
+    /**
+     * Reads only the fields named by the projection, see {@link BoardProjection}.
+     */
+    public static <T extends Record> T getBoard(String id, BoardProjection<T> projection, int status) {
+        return projectedRequest(id, projection).boardRequest(status, projection);
+    }
+
+    public static BoardSummary getBoardSummary(String id, int status) {
+        return getBoard(id, BoardProjection.of(BoardSummary.class), status);
+    }
+
+    public static TrelloBoard updateBoard(String id, String paramName, String param, int status) {
+        return updateBoard(id, Map.of(paramName, param), status);
+    }
+
+    public static TrelloBoard updateBoard(String id, Map<String, String> parameters, int status) {
+        return updateBoard(id, parameters, status, boardCache);
+    }
+
+    /**
+     * Invalidates {@code cache} rather than the installed one; {@code null} for none. The board is updated on
+     * the cache's API root, so the cache and the server agree.
+     */
+    public static TrelloBoard updateBoard(String id, Map<String, String> parameters, int status, BoardCache cache) {
+        try {
+            return updateRequest(boardUri(cache, id), parameters).boardRequest(status);
+        } finally {
+            invalidate(cache, id);
+        }
+    }
+
+    public static ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    public static Map<String, BoardResult> getBoards(Collection<String> ids) {
+        return getBoards(baseUri, ids, asyncExecutor);
+    }
+
+    /**
+     * Reads boards through {@code /1/batch}, {@link #BATCH_LIMIT} GETs per call, with the calls in flight
+     * concurrently on {@code executor}.
+     *
+     * @return one result per distinct id, in the order the ids were given
+     */
+    public static Map<String, BoardResult> getBoards(URI baseUri, Collection<String> ids, Executor executor) {
+        List<String> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        List<CompletableFuture<List<BoardResult>>> batches = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += BATCH_LIMIT) {
+            List<String> batch = distinct.subList(from, Math.min(from + BATCH_LIMIT, distinct.size()));
+            TrelloServiceObj request = requestBuilder()
+                .setMethod(Method.GET)
+                .setTarget(baseUri.resolve(BATCH_URI))
+                .setParameter("urls", batch.stream()
+                    .map(id -> "/boards/" + id)
+                    .collect(Collectors.joining(",")))
+                .buildRequest();
+            batches.add(CompletableFuture.supplyAsync(
+                () -> BoardReader.readBatch(request.sendRequest(ResponseStatus.GOOD_RESPONSE).asInputStream(), batch),
+                executor));
+        }
+
+        Map<String, BoardResult> results = new LinkedHashMap<>();
+        for (CompletableFuture<List<BoardResult>> batch : batches) {
+            batch.join().forEach(result -> results.put(result.id(), result));
+        }
+        return results;
+    }
+
+    public static URI getBaseUri() {
+        return baseUri;
+    }
+
+    /**
+     * Points every request built from now on at another API root, e.g. a {@code server.TrelloStandIn}.
+     * Defaults to {@code -Dtrello.url}, or {@link #TRELLO_URL} when unset.
+     */
+    public static void setBaseUri(URI uri) {
+        baseUri = uri;
+    }
+
+    public static Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Carries {@link #boardRequest(int)} and {@link #boardRequestAsync} traffic only: whole-board create, get,
+     * update and delete. Requests through {@link #sendRequest} stay on REST Assured. Defaults to
+     * {@code -Dtrello.transport}, see {@link Transport#fromSystemProperties()}.
+     */
+    public static void setTransport(Transport boardTransport) {
+        transport = boardTransport;
+    }
+
+    public static void setConnectionPool(ConnectionPool pool) {
+        connectionPool = pool;
+    }
+
+    public static void setRequestScheduler(RequestScheduler scheduler) {
+        requestScheduler = scheduler;
+    }
+
+    public static void setRequestLogger(RequestLogger logger) {
+        requestLogger = logger;
+    }
+
+    public static void setAsyncExecutor(Executor executor) {
+        asyncExecutor = executor;
+    }
+
+    public static BoardCache getBoardCache() {
+        return boardCache;
+    }
+
+    /**
+     * Puts a cache in front of {@link #getBoard(String, int)}; {@code null}, the default, turns it off.
+     */
+    public static void setBoardCache(BoardCache cache) {
+        boardCache = cache;
+    }
+
+    public static UpdateCoalescer getUpdateCoalescer() {
+        return updateCoalescer;
+    }
+
+    /**
+     * Merges {@code updateBoardAsync} calls that expect the coalescer's status into one PUT per board;
+     * {@code null}, the default, sends each call on its own.
+     */
+    public static void setUpdateCoalescer(UpdateCoalescer coalescer) {
+        updateCoalescer = coalescer;
+    }
+
+    public static CompletableFuture<TrelloBoard> createBoardAsync(String name, int status) {
+        return createBoardAsync(name, status, asyncExecutor);
+    }
+
+    public static CompletableFuture<TrelloBoard> createBoardAsync(String name, int status, Executor executor) {
+        return createRequest(name).boardRequestAsync(status, executor);
+    }
+
+    public static CompletableFuture<TrelloBoard> deleteBoardAsync(String id, int status) {
+        return deleteBoardAsync(id, status, asyncExecutor);
+    }
+
+    public static CompletableFuture<TrelloBoard> deleteBoardAsync(String id, int status, Executor executor) {
+        return deleteRequest(boardUri(boardCache, id)).boardRequestAsync(status, executor)
+            .whenComplete((deleted, ex) -> invalidate(id));
+    }
+
+    public static CompletableFuture<TrelloBoard> getBoardAsync(String id, int status) {
+        return getBoardAsync(id, status, asyncExecutor);
+    }
+
+    public static CompletableFuture<TrelloBoard> getBoardAsync(String id, int status, Executor executor) {
+        if (boardCache != null && status == ResponseStatus.GOOD_RESPONSE) {
+            return CompletableFuture.supplyAsync(() -> getBoard(id, status), executor);
+        }
+        return getRequest(boardUri(boardCache, id)).boardRequestAsync(status, executor);
+    }
+
+    public static <T extends Record> CompletableFuture<T> getBoardAsync(String id, BoardProjection<T> projection,
+                                                                        int status) {
+        TrelloServiceObj request = projectedRequest(id, projection);
+        return CompletableFuture.supplyAsync(() -> request.boardRequest(status, projection), asyncExecutor);
+    }
+
+    public static CompletableFuture<TrelloBoard> updateBoardAsync(String id, String paramName, String param,
+                                                                  int status) {
+        return updateBoardAsync(id, paramName, param, status, asyncExecutor);
+    }
+
+    public static CompletableFuture<TrelloBoard> updateBoardAsync(String id, String paramName, String param,
+                                                                  int status, Executor executor) {
+        return updateBoardAsync(id, Map.of(paramName, param), status, executor);
+    }
+
+    public static CompletableFuture<TrelloBoard> updateBoardAsync(String id, Map<String, String> parameters,
+                                                                  int status) {
+        return updateBoardAsync(id, parameters, status, asyncExecutor);
+    }
+
+    /**
+     * Goes through the {@link UpdateCoalescer} when one is installed for {@code status}.
+     */
+    public static CompletableFuture<TrelloBoard> updateBoardAsync(String id, Map<String, String> parameters,
+                                                                  int status, Executor executor) {
+        UpdateCoalescer coalescer = updateCoalescer;
+        if (coalescer != null && coalescer.status() == status) {
+            return coalescer.update(id, parameters);
+        }
+        return updateRequest(boardUri(boardCache, id), parameters).boardRequestAsync(status, executor)
+            .whenComplete((updated, ex) -> invalidate(id));
+    }
+
+    static void invalidate(String id) {
+        invalidate(boardCache, id);
+    }
+
+    private static void invalidate(BoardCache cache, String id) {
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    private static TrelloServiceObj createRequest(String name) {
         return requestBuilder()
             .setMethod(Method.POST)
+            .setTarget(boardUri(""))
             .setName(name)
-            .buildRequest()
-            .boardRequest(status);
+            .buildRequest();
     }
 
-    public static void deleteBoard(String id, int status) {
-        URL = TRELLO_URL.toString() + BOARD_URI.toString() + id;
-        requestBuilder()
+    private static TrelloServiceObj deleteRequest(URI board) {
+        return requestBuilder()
             .setMethod(Method.DELETE)
-            .buildRequest()
-            .boardRequest(status);
+            .setTarget(board)
+            .buildRequest();
     }
 
-    public static TrelloBoard getBoard(String id, int status) {
-        URL = TRELLO_URL.toString() + BOARD_URI.toString() + id;
+    private static TrelloServiceObj getRequest(URI board) {
         return requestBuilder()
             .setMethod(Method.GET)
-            .buildRequest()
-            .boardRequest(status);
+            .setTarget(board)
+            .buildRequest();
     }
 
-    public static TrelloBoard updateBoard(String id, String paramName, String param, int status) {
-        URL = TRELLO_URL.toString() + BOARD_URI.toString() + id;
+    private static TrelloServiceObj projectedRequest(String id, BoardProjection<?> projection) {
+        return requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(boardUri(id))
+            .setParameter(BoardProjection.FIELDS, projection.fieldsParameter())
+            .buildRequest();
+    }
+
+    private static TrelloServiceObj updateRequest(URI board, Map<String, String> parameters) {
         return requestBuilder()
             .setMethod(Method.PUT)
-            .setParameter(paramName, param)
-            .buildRequest()
-            .boardRequest(status);
+            .setTarget(board)
+            .setParameters(parameters)
+            .buildRequest();
+    }
+
+    public static URI boardUri(String id) {
+        return baseUri.resolve(BOARD_URI).resolve(id);
     }
 
-    private static ResponseSpecification notFoundResponse() {
-        return new ResponseSpecBuilder()
-            .expectContentType(TEXT)
-            .expectResponseTime(lessThan(10000L))
-            .expectStatusCode(HttpStatus.SC_NOT_FOUND)
-            .build();
+    private static URI boardUri(BoardCache cache, String id) {
+        return cache != null ? cache.boardUri(id) : boardUri(id);
     }
 
     public static ResponseSpecification goodResponseSpecification() {
-        return new ResponseSpecBuilder()
-            .expectContentType(ContentType.JSON)
-            .expectResponseTime(lessThan(10000L))
-            .expectStatusCode(HttpStatus.SC_OK)
-            .build();
+        return SpecRegistry.response(ResponseStatus.GOOD_RESPONSE);
     }
 
     public static ResponseSpecification badResponseSpecification() {
-        return new ResponseSpecBuilder()
-            .expectContentType(ContentType.TEXT)
-            .expectResponseTime(lessThan(10000L))
-            .expectStatusCode(HttpStatus.SC_BAD_REQUEST)
-            .build();
+        return SpecRegistry.response(ResponseStatus.BAD_RESPONSE);
     }
 }
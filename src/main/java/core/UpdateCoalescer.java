@@ -0,0 +1,211 @@
+package core;
+
+import beans.TrelloBoard;
+import constants.BoardParameters;
+import constants.ResponseStatus;
+import io.restassured.http.Method;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Merges updates to the same board into one PUT. The first update for an id opens a batch that is sent
+ * when the window elapses, or on {@link #flush(String)} when the window is zero. Later updates in the
+ * batch overwrite earlier values of the same field, and every caller's future completes with the board
+ * the merged PUT returned. Install with {@link TrelloServiceObj#setUpdateCoalescer(UpdateCoalescer)} to
+ * coalesce {@code updateBoardAsync}.
+ */
+public final class UpdateCoalescer implements AutoCloseable {
+    private final Duration window;
+    private final int status;
+    private final URI baseUri;
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<TrelloBoard>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+
+    private UpdateCoalescer(Builder builder) {
+        this.window = builder.window;
+        this.status = builder.status;
+        this.baseUri = builder.baseUri;
+        this.executor = builder.executor;
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trello-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public CompletableFuture<TrelloBoard> update(String id, BoardParameters parameter, String value) {
+        return update(id, Map.of(parameter.getParameterName(), value));
+    }
+
+    public CompletableFuture<TrelloBoard> update(String id, Map<String, String> parameters) {
+        CompletableFuture<TrelloBoard> result = new CompletableFuture<>();
+        batches.compute(id, (key, batch) -> {
+            if (batch == null) {
+                batch = new Batch();
+                if (!window.isZero()) {
+                    batch.timer = timer.schedule(() -> flush(key), window.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+            batch.parameters.putAll(parameters);
+            batch.callers.add(result);
+            return batch;
+        });
+        updates.increment();
+        return result;
+    }
+
+    /**
+     * Sends the pending updates for {@code id} now, or once the board's previous PUT has completed: at most one
+     * PUT per board is in flight, so a later batch can never reach Trello before an earlier one.
+     *
+     * @return the merged PUT, or a completed {@code null} when nothing was pending
+     */
+    public CompletableFuture<TrelloBoard> flush(String id) {
+        Batch batch = batches.remove(id);
+        if (batch == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (batch.timer != null) {
+            batch.timer.cancel(false);
+        }
+        puts.increment();
+        CompletableFuture<TrelloBoard> put = inFlight.compute(id, (key, previous) -> previous == null
+            ? send(key, batch)
+            : previous.handle((board, ex) -> null).thenCompose(ignored -> send(key, batch)));
+        put.whenComplete((board, ex) -> inFlight.remove(id, put));
+        return put;
+    }
+
+    private CompletableFuture<TrelloBoard> send(String id, Batch batch) {
+        CompletableFuture<TrelloBoard> put;
+        try {
+            put = TrelloServiceObj.requestBuilder()
+                .setMethod(Method.PUT)
+                .setTarget(boardUri(id))
+                .setParameters(batch.parameters)
+                .buildRequest()
+                .boardRequestAsync(status, executor);
+        } catch (RuntimeException | AssertionError ex) {
+            put = CompletableFuture.failedFuture(ex);
+        }
+        return put.whenComplete((board, ex) -> {
+            TrelloServiceObj.invalidate(id);
+            for (CompletableFuture<TrelloBoard> caller : batch.callers) {
+                if (ex != null) {
+                    caller.completeExceptionally(ex);
+                } else {
+                    caller.complete(board);
+                }
+            }
+        });
+    }
+
+    public CompletableFuture<Void> flushAll() {
+        List<CompletableFuture<TrelloBoard>> flushed = new ArrayList<>();
+        for (String id : batches.keySet()) {
+            flushed.add(flush(id));
+        }
+        return CompletableFuture.allOf(flushed.toArray(CompletableFuture[]::new));
+    }
+
+    int status() {
+        return status;
+    }
+
+    public int pendingBoards() {
+        return batches.size();
+    }
+
+    /**
+     * @return updates accepted so far
+     */
+    public long updateCount() {
+        return updates.sum();
+    }
+
+    /**
+     * @return merged PUTs sent so far
+     */
+    public long putCount() {
+        return puts.sum();
+    }
+
+    /**
+     * Flushes what is pending and stops the window timer.
+     */
+    @Override
+    public void close() {
+        flushAll();
+        timer.shutdown();
+    }
+
+    private URI boardUri(String id) {
+        return baseUri != null ? baseUri.resolve(TrelloServiceObj.BOARD_URI).resolve(id) : TrelloServiceObj.boardUri(id);
+    }
+
+    private static final class Batch {
+        private final Map<String, String> parameters = new LinkedHashMap<>();
+        private final List<CompletableFuture<TrelloBoard>> callers = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+    }
+
+    public static class Builder {
+        private Duration window = Duration.ofMillis(50);
+        private int status = ResponseStatus.GOOD_RESPONSE;
+        private URI baseUri;
+        private Executor executor = AsyncExecutors.cachedDaemonPool("trello-coalesced");
+
+        /**
+         * How long a batch stays open after its first update; {@link Duration#ZERO} waits for a flush.
+         */
+        public Builder setWindow(Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * The {@link ResponseStatus} every merged PUT is validated against.
+         */
+        public Builder setStatus(int status) {
+            this.status = status;
+            return this;
+        }
+
+        /**
+         * Sends to another API root; by default follows {@link TrelloServiceObj#getBaseUri()}.
+         */
+        public Builder setBaseUri(URI baseUri) {
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public UpdateCoalescer build() {
+            return new UpdateCoalescer(this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boards the generator has created and not yet deleted. GET and UPDATE share a random board;
+ * DELETE takes one out of the set and waits for its in-flight readers, so a board is never read
+ * after it is gone. Operations are O(1) under one lock, which is far below request cost.
+ */
+final class LiveBoards {
+    private final List<Slot> slots = new ArrayList<>();
+    private int reservedForDelete;
+
+    synchronized void add(String id) {
+        slots.add(new Slot(id));
+        notifyAll();
+    }
+
+    /**
+     * @return whether an operation that needs a board can be scheduled now
+     */
+    synchronized boolean reserve(Operation operation) {
+        if (slots.size() - reservedForDelete <= 0) {
+            return false;
+        }
+        if (operation == Operation.DELETE) {
+            reservedForDelete++;
+        }
+        return true;
+    }
+
+    /**
+     * @return a board for GET or UPDATE, or {@code null} if deletes scheduled since took them all
+     */
+    synchronized Slot share() {
+        if (slots.isEmpty()) {
+            return null;
+        }
+        Slot slot = slots.get(ThreadLocalRandom.current().nextInt(slots.size()));
+        slot.users++;
+        return slot;
+    }
+
+    synchronized void unshare(Slot slot) {
+        if (--slot.users == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Removes a board reserved through {@link #reserve} and waits until nobody is using it.
+     */
+    synchronized Slot claim() throws InterruptedException {
+        reservedForDelete--;
+        if (slots.isEmpty()) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(slots.size());
+        Slot slot = slots.get(index);
+        slots.set(index, slots.get(slots.size() - 1));
+        slots.remove(slots.size() - 1);
+        while (slot.users > 0) {
+            wait();
+        }
+        return slot;
+    }
+
+    synchronized List<String> drain() {
+        List<String> ids = new ArrayList<>(slots.size());
+        slots.forEach(slot -> ids.add(slot.id));
+        slots.clear();
+        return ids;
+    }
+
+    static final class Slot {
+        final String id;
+        private int users;
+
+        Slot(String id) {
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,386 @@
+package load;
+
+import beans.TrelloBoard;
+import constants.BoardParameters;
+import constants.ResponseStatus;
+import core.AsyncExecutors;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Recorder;
+import server.LatencyDistribution;
+import server.TrelloStandIn;
+
+/**
+ * Open-loop load: requests are started on a fixed arrival schedule whether or not earlier ones
+ * have finished, and each latency is measured from the scheduled start rather than the actual
+ * send, so a stalled server shows up as queueing delay instead of silently lowering the rate.
+ * <p>
+ * Requests scheduled during warm-up run but are not recorded. Boards for GET, UPDATE and DELETE
+ * come from {@link LiveBoards}, seeded before the run and fed by CREATE; a board operation scheduled
+ * while none is available becomes a CREATE. Whatever is left is deleted at the end.
+ */
+public final class LoadGenerator {
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(5);
+
+    private final URI baseUri;
+    private final double ratePerSecond;
+    private final Duration warmUp;
+    private final Duration steadyState;
+    private final Map<Operation, Integer> mix;
+    private final int seedBoards;
+    private final Duration drainTimeout;
+    private final String namePrefix;
+
+    private final LiveBoards boards = new LiveBoards();
+    private final AtomicLong created = new AtomicLong();
+    private final Map<Operation, Recorder> latency = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Integer, LongAdder>> statuses = new EnumMap<>(Operation.class);
+
+    private LoadGenerator(Builder builder) {
+        this.baseUri = builder.baseUri;
+        this.ratePerSecond = builder.ratePerSecond;
+        this.warmUp = builder.warmUp;
+        this.steadyState = builder.steadyState;
+        this.mix = new LinkedHashMap<>(builder.mix);
+        this.seedBoards = builder.seedBoards;
+        this.drainTimeout = builder.drainTimeout;
+        this.namePrefix = builder.namePrefix;
+        for (Operation operation : Operation.values()) {
+            latency.put(operation, new Recorder(MAX_LATENCY_NANOS, 3));
+            statuses.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * System properties: {@code load.rps} (50), {@code load.warmup} and {@code load.duration} in seconds
+     * (10, 60), {@code load.mix} (e.g. {@code create=1,get=6,update=2,delete=1}), and {@code load.target}:
+     * {@code standin} (default) for a local {@link TrelloStandIn}, {@code live} for api.trello.com,
+     * or any API root URL. {@code load.standin.medianMs} adds log-normal latency to the stand-in.
+     */
+    public static void main(String[] args) throws IOException {
+        Builder builder = builder()
+            .setRate(Double.parseDouble(System.getProperty("load.rps", "50")))
+            .setWarmUp(Duration.ofSeconds(Long.getLong("load.warmup", 10)))
+            .setSteadyState(Duration.ofSeconds(Long.getLong("load.duration", 60)));
+        String mix = System.getProperty("load.mix");
+        if (mix != null) {
+            builder.setMix(parseMix(mix));
+        }
+
+        String target = System.getProperty("load.target", "standin");
+        TrelloStandIn standIn = null;
+        if ("standin".equals(target)) {
+            long medianMs = Long.getLong("load.standin.medianMs", 0);
+            standIn = TrelloStandIn.builder()
+                .setLatency(medianMs > 0
+                    ? LatencyDistribution.logNormal(Duration.ofMillis(medianMs), 0.5)
+                    : LatencyDistribution.none())
+                .start();
+            builder.setBaseUri(standIn.baseUri());
+        } else if (!"live".equals(target)) {
+            builder.setBaseUri(URI.create(target));
+        }
+
+        try {
+            System.out.print(builder.build().run().format());
+        } finally {
+            if (standIn != null) {
+                standIn.close();
+            }
+        }
+    }
+
+    public LoadReport run() {
+        ExecutorService executor = AsyncExecutors.cachedDaemonPool("load");
+        try {
+            seed(executor);
+            Operation[] schedule = weightedSchedule();
+            Set<Pending> inFlight = ConcurrentHashMap.newKeySet();
+            long start = System.nanoTime();
+            long steadyStart = start + warmUp.toNanos();
+            long end = steadyStart + steadyState.toNanos();
+            for (long i = 0; ; i++) {
+                long intendedStart = start + (long) (i * 1e9 / ratePerSecond);
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                if (operation.needsBoard() && !boards.reserve(operation)) {
+                    operation = Operation.CREATE;
+                }
+                Pending pending = new Pending(operation, intendedStart, intendedStart >= steadyStart);
+                inFlight.add(pending);
+                executor.execute(() -> {
+                    try {
+                        execute(pending);
+                    } finally {
+                        inFlight.remove(pending);
+                    }
+                });
+            }
+            drain(inFlight);
+            return report();
+        } finally {
+            cleanUp(executor);
+            executor.shutdownNow();
+        }
+    }
+
+    private void execute(Pending pending) {
+        int status;
+        try {
+            status = perform(pending.operation);
+        } catch (Exception ex) {
+            // includes the IOExceptions REST Assured throws undeclared, e.g. ConnectException under overload
+            status = LoadReport.TRANSPORT_ERROR;
+        }
+        record(pending, status);
+    }
+
+    /**
+     * Records each request once: when it completes, or as a {@link LoadReport#TIMEOUT} when the drain gives up
+     * on it, whichever comes first.
+     */
+    private void record(Pending pending, int status) {
+        if (!pending.recorded.compareAndSet(false, true) || !pending.measured) {
+            return;
+        }
+        long elapsed = System.nanoTime() - pending.intendedStart;
+        latency.get(pending.operation).recordValue(Math.min(elapsed, MAX_LATENCY_NANOS));
+        statuses.get(pending.operation).computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * @return the HTTP status; responses are not validated so that every outcome is counted
+     */
+    private int perform(Operation operation) {
+        if (operation == Operation.CREATE) {
+            Response response = send(Method.POST, "", Map.of(
+                BoardParameters.NAME.getParameterName(), namePrefix + created.incrementAndGet()));
+            TrelloBoard board = TrelloServiceObj.formBoardFromResponse(response);
+            if (board != null) {
+                boards.add(board.getId());
+            }
+            return response.statusCode();
+        }
+
+        if (operation == Operation.DELETE) {
+            return delete();
+        }
+        LiveBoards.Slot slot = boards.share();
+        if (slot == null) {
+            return LoadReport.TRANSPORT_ERROR;
+        }
+        try {
+            Response response = operation == Operation.GET
+                ? send(Method.GET, slot.id, Map.of())
+                : send(Method.PUT, slot.id, Map.of(BoardParameters.DESCRIPTION.getParameterName(),
+                    Long.toString(ThreadLocalRandom.current().nextLong(), 36)));
+            TrelloServiceObj.formBoardFromResponse(response);
+            return response.statusCode();
+        } finally {
+            boards.unshare(slot);
+        }
+    }
+
+    private int delete() {
+        LiveBoards.Slot slot;
+        try {
+            slot = boards.claim();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return LoadReport.TRANSPORT_ERROR;
+        }
+        if (slot == null) {
+            return LoadReport.TRANSPORT_ERROR;
+        }
+        Response response;
+        try {
+            response = send(Method.DELETE, slot.id, Map.of());
+        } catch (Exception ex) {
+            boards.add(slot.id);
+            throw ex;
+        }
+        TrelloServiceObj.formBoardFromResponse(response);
+        if (response.statusCode() != 200) {
+            boards.add(slot.id);
+        }
+        return response.statusCode();
+    }
+
+    private Response send(Method method, String id, Map<String, String> parameters) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(method)
+            .setTarget(baseUri.resolve(TrelloServiceObj.BOARD_URI).resolve(id))
+            .setParameters(parameters)
+            .buildRequest()
+            .sendRequest(ResponseStatus.ANY_RESPONSE);
+    }
+
+    private void seed(Executor executor) {
+        List<CompletableFuture<Integer>> seeded = new ArrayList<>();
+        for (int i = 0; i < seedBoards; i++) {
+            seeded.add(CompletableFuture.supplyAsync(() -> perform(Operation.CREATE), executor));
+        }
+        seeded.forEach(CompletableFuture::join);
+    }
+
+    private void cleanUp(Executor executor) {
+        List<CompletableFuture<TrelloBoard>> deleted = new ArrayList<>();
+        for (String id : boards.drain()) {
+            deleted.add(CompletableFuture.supplyAsync(
+                () -> TrelloServiceObj.formBoardFromResponse(send(Method.DELETE, id, Map.of())), executor));
+        }
+        deleted.forEach(future -> future.handle((response, ex) -> null).join());
+    }
+
+    /**
+     * Requests still in flight at the drain timeout are recorded as timeouts, with the latency they had reached,
+     * so the slowest tail is never left out of the report.
+     */
+    private void drain(Set<Pending> inFlight) {
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        while (!inFlight.isEmpty() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        for (Pending pending : inFlight) {
+            record(pending, LoadReport.TIMEOUT);
+        }
+    }
+
+    private Operation[] weightedSchedule() {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalStateException("Operation mix has no positive weights");
+        }
+        return schedule.toArray(new Operation[0]);
+    }
+
+    private LoadReport report() {
+        Map<Operation, LoadReport.OperationStats> operations = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            Map<Integer, Long> counts = new LinkedHashMap<>();
+            statuses.get(operation).forEach((status, count) -> counts.put(status, count.sum()));
+            operations.put(operation, new LoadReport.OperationStats(
+                latency.get(operation).getIntervalHistogram(), counts));
+        }
+        return new LoadReport(operations, steadyState);
+    }
+
+    private static final class Pending {
+        private final Operation operation;
+        private final long intendedStart;
+        private final boolean measured;
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        Pending(Operation operation, long intendedStart, boolean measured) {
+            this.operation = operation;
+            this.intendedStart = intendedStart;
+            this.measured = measured;
+        }
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+
+    public static class Builder {
+        private URI baseUri = TrelloServiceObj.getBaseUri();
+        private double ratePerSecond = 50;
+        private Duration warmUp = Duration.ofSeconds(10);
+        private Duration steadyState = Duration.ofSeconds(60);
+        private Map<Operation, Integer> mix = Map.of(
+            Operation.CREATE, 1, Operation.GET, 6, Operation.UPDATE, 2, Operation.DELETE, 1);
+        private int seedBoards = 20;
+        private Duration drainTimeout = Duration.ofSeconds(30);
+        private String namePrefix = "load-";
+
+        public Builder setBaseUri(URI baseUri) {
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        public Builder setRate(double requestsPerSecond) {
+            this.ratePerSecond = requestsPerSecond;
+            return this;
+        }
+
+        public Builder setWarmUp(Duration warmUp) {
+            this.warmUp = warmUp;
+            return this;
+        }
+
+        public Builder setSteadyState(Duration steadyState) {
+            this.steadyState = steadyState;
+            return this;
+        }
+
+        /**
+         * @param weights relative weight per operation; operations left out are never scheduled
+         */
+        public Builder setMix(Map<Operation, Integer> weights) {
+            this.mix = Map.copyOf(weights);
+            return this;
+        }
+
+        public Builder setSeedBoards(int seedBoards) {
+            this.seedBoards = seedBoards;
+            return this;
+        }
+
+        /**
+         * @param drainTimeout how long to wait for in-flight requests after the last one is scheduled
+         */
+        public Builder setDrainTimeout(Duration drainTimeout) {
+            this.drainTimeout = drainTimeout;
+            return this;
+        }
+
+        public Builder setNamePrefix(String namePrefix) {
+            this.namePrefix = namePrefix;
+            return this;
+        }
+
+        public LoadGenerator build() {
+            return new LoadGenerator(this);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package load;
+
+import constants.ResponseStatus;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Steady-state results of a {@link LoadGenerator} run. Latency is measured from each request's
+ * intended start, so time spent queued behind a slow response is part of the number.
+ */
+public final class LoadReport {
+    public static final int TRANSPORT_ERROR = -1;
+    public static final int TIMEOUT = -2;
+
+    private final Map<Operation, OperationStats> operations;
+    private final Duration steadyState;
+
+    LoadReport(Map<Operation, OperationStats> operations, Duration steadyState) {
+        this.operations = Map.copyOf(operations);
+        this.steadyState = steadyState;
+    }
+
+    public OperationStats get(Operation operation) {
+        return operations.get(operation);
+    }
+
+    public long totalCount() {
+        return operations.values().stream().mapToLong(stats -> stats.histogram().getTotalCount()).sum();
+    }
+
+    public long totalErrors() {
+        return operations.values().stream().mapToLong(OperationStats::errors).sum();
+    }
+
+    public double throughput() {
+        return totalCount() / (steadyState.toNanos() / 1e9);
+    }
+
+    /**
+     * Groups HTTP statuses the way the tests do: the {@link ResponseStatus} constant name, or the
+     * bare code for statuses the tests never expect.
+     */
+    public static String category(int httpStatus) {
+        switch (httpStatus) {
+            case TRANSPORT_ERROR:
+                return "TRANSPORT_ERROR";
+            case TIMEOUT:
+                return "TIMEOUT";
+            default:
+                int status = ResponseStatus.of(httpStatus);
+                return status == ResponseStatus.ANY_RESPONSE ? "HTTP_" + httpStatus : ResponseStatus.name(status);
+        }
+    }
+
+    public String format() {
+        StringBuilder out = new StringBuilder(String.format("%-8s %8s %9s %7s %9s %9s %9s %9s%n",
+            "op", "count", "rps", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        Map<String, Long> errors = new TreeMap<>();
+        for (Operation operation : Operation.values()) {
+            OperationStats stats = operations.get(operation);
+            Histogram histogram = stats.histogram();
+            out.append(String.format("%-8s %8d %9.1f %7d %9.2f %9.2f %9.2f %9.2f%n", operation,
+                histogram.getTotalCount(), histogram.getTotalCount() / (steadyState.toNanos() / 1e9),
+                stats.errors(), millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())));
+            stats.statuses().forEach((status, count) -> {
+                if (status != 200) {
+                    errors.merge(category(status), count, Long::sum);
+                }
+            });
+        }
+        out.append(String.format("total %d requests, %.1f rps, errors %s%n", totalCount(), throughput(), errors));
+        return out.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @param statuses response count per HTTP status, {@link #TRANSPORT_ERROR} for calls that threw and
+     *                 {@link #TIMEOUT} for calls still in flight when the run ended
+     */
+    public record OperationStats(Histogram histogram, Map<Integer, Long> statuses) {
+
+        public long errors() {
+            return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() != 200)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        }
+    }
+}
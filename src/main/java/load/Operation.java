@@ -0,0 +1,12 @@
+package load;
+
+public enum Operation {
+    CREATE,
+    GET,
+    UPDATE,
+    DELETE;
+
+    boolean needsBoard() {
+        return this != CREATE;
+    }
+}
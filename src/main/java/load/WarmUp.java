@@ -0,0 +1,121 @@
+package load;
+
+import constants.BoardParameters;
+import constants.ResponseStatus;
+import core.BoardProjection;
+import core.BoardSummary;
+import core.LatencyStats;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import server.TrelloStandIn;
+
+/**
+ * Runs the client stack end to end against a loopback {@link TrelloStandIn}: request and response specs, the
+ * REST Assured request path, board parsing, projections, batch reads and the error specs. The first
+ * {@code TrelloServiceObj} call of a JVM otherwise pays for loading Groovy, HttpClient and Jackson and for
+ * interpreting all of it. Only the stand-in is touched; the client's base URI is left alone.
+ * <p>
+ * {@link #main} is also the workload the {@code cds} profile records its class-data-sharing archive from.
+ */
+public final class WarmUp {
+    public static final int DEFAULT_ROUNDS = 20;
+    private static final BoardProjection<BoardSummary> SUMMARY = BoardProjection.of(BoardSummary.class);
+    private static final int REQUESTS_PER_ROUND = 7;
+
+    private WarmUp() {
+    }
+
+    /**
+     * The warm-up's requests are not recorded in {@link LatencyStats}; latency recorded by other threads
+     * meanwhile is kept.
+     *
+     * @param rounds at least 1
+     */
+    public static Report run(int rounds) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("Warm-up needs at least 1 round, got " + rounds);
+        }
+        return LatencyStats.unrecorded(() -> warmUp(rounds));
+    }
+
+    private static Report warmUp(int rounds) {
+        long start = System.nanoTime();
+        Duration firstRequest = null;
+        Duration timeToFirstRequest = null;
+        long lastRound = 0;
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            URI boards = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI);
+            for (int round = 0; round < rounds; round++) {
+                long roundStart = System.nanoTime();
+                String id = TrelloServiceObj.requestBuilder()
+                    .setMethod(Method.POST)
+                    .setTarget(boards)
+                    .setName("warm-up")
+                    .buildRequest()
+                    .boardRequest(ResponseStatus.GOOD_RESPONSE)
+                    .getId();
+                if (firstRequest == null) {
+                    firstRequest = Duration.ofNanos(System.nanoTime() - roundStart);
+                    timeToFirstRequest = Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime());
+                }
+                get(boards.resolve(id)).boardRequest(ResponseStatus.GOOD_RESPONSE);
+                get(boards.resolve(id)).boardRequest(ResponseStatus.GOOD_RESPONSE, SUMMARY);
+                TrelloServiceObj.requestBuilder()
+                    .setMethod(Method.PUT)
+                    .setTarget(boards.resolve(id))
+                    .setParameter(BoardParameters.DESCRIPTION.getParameterName(), "warm-up " + round)
+                    .buildRequest()
+                    .boardRequest(ResponseStatus.GOOD_RESPONSE);
+                TrelloServiceObj.getBoards(standIn.baseUri(), List.of(id), Runnable::run);
+                TrelloServiceObj.requestBuilder()
+                    .setMethod(Method.DELETE)
+                    .setTarget(boards.resolve(id))
+                    .buildRequest()
+                    .boardRequest(ResponseStatus.GOOD_RESPONSE);
+                get(boards.resolve(id)).boardRequest(ResponseStatus.NOT_FOUND_RESPONSE);
+                lastRound = System.nanoTime() - roundStart;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return new Report(timeToFirstRequest, firstRequest, Duration.ofNanos(lastRound / REQUESTS_PER_ROUND),
+            Duration.ofNanos(System.nanoTime() - start), rounds * REQUESTS_PER_ROUND);
+    }
+
+    private static TrelloServiceObj get(URI target) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(target)
+            .buildRequest();
+    }
+
+    /**
+     * Warms up with {@code -Dwarmup.rounds} rounds (default {@value #DEFAULT_ROUNDS}) and prints the report.
+     * Compare runs with and without {@code -XX:SharedArchiveFile} for the effect of the CDS archive.
+     */
+    public static void main(String[] args) {
+        System.out.println(run(Integer.getInteger("warmup.rounds", DEFAULT_ROUNDS)));
+    }
+
+    /**
+     * @param timeToFirstRequest JVM uptime when the first request had completed
+     * @param firstRequest       the first, cold, request on its own
+     * @param warmRequest        mean request time in the last round
+     */
+    public record Report(Duration timeToFirstRequest, Duration firstRequest, Duration warmRequest,
+                         Duration elapsed, int requests) {
+
+        @Override
+        public String toString() {
+            return String.format("Time to first request %d ms (first request %d ms, warm %.2f ms); "
+                    + "warm-up of %d requests took %d ms", timeToFirstRequest.toMillis(), firstRequest.toMillis(),
+                warmRequest.toNanos() / 1e6, requests, elapsed.toMillis());
+        }
+    }
+}
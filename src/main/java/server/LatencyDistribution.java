@@ -0,0 +1,44 @@
+package server;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Artificial service time added by {@link TrelloStandIn} before a response is sent.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    long sampleNanos();
+
+    static LatencyDistribution none() {
+        return () -> 0L;
+    }
+
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        return () -> nanos;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long low = min.toNanos();
+        long high = max.toNanos();
+        return () -> ThreadLocalRandom.current().nextLong(low, high + 1);
+    }
+
+    static LatencyDistribution exponential(Duration mean) {
+        double meanNanos = mean.toNanos();
+        return () -> (long) (-meanNanos * Math.log(1 - ThreadLocalRandom.current().nextDouble()));
+    }
+
+    /**
+     * Long-tailed latency typical of real APIs.
+     *
+     * @param median the 50th percentile
+     * @param sigma  shape; 0.5 puts p99 at about 3.2x the median, 1.0 at about 10x
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(median.toNanos());
+        return () -> (long) Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian());
+    }
+}
@@ -0,0 +1,706 @@
+package server;
+
+import beans.TrelloBoard;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * In-memory stand-in for the parts of api.trello.com this project uses: boards, lists, cards,
+ * attachments, the member board list and {@code /1/batch}. Responses mirror Trello's shapes and error conventions
+ * (400 text for malformed ids, 404 text for unknown ones), new boards are built from the
+ * {@code schemes/TrelloBoard.json} sample, and every route can be given its own latency distribution.
+ * Successful GETs carry an {@code ETag} and answer a matching {@code If-None-Match} with 304.
+ * <p>
+ * The JDK server leaves Nagle on, which stalls keep-alive responses behind delayed ACKs; launch the JVM with
+ * {@code -Dsun.net.httpserver.nodelay=true}, as the surefire and benchmark configurations do.
+ */
+public final class TrelloStandIn implements AutoCloseable {
+    public static final int BATCH_LIMIT = 10;
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String TEXT = "text/plain; charset=utf-8";
+    private static final String NOT_FOUND = "The requested resource was not found.";
+    private static final Pattern ID = Pattern.compile("[0-9a-f]{24}");
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final byte[] BOARD_TEMPLATE = boardTemplate();
+    private static final Set<String> BOARD_FIELDS = Set.of(TrelloBoard.class.getAnnotation(JsonPropertyOrder.class).value());
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService delayer;
+    private final LatencyDistribution latency;
+    private final Map<String, LatencyDistribution> routeLatency;
+    private final int rateLimit;
+
+    private final Map<String, TrelloBoard> boards = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> lists = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Object>> cards = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<String>> listCards = new ConcurrentHashMap<>();
+    private final Map<String, List<Map<String, Object>>> attachments = new ConcurrentHashMap<>();
+    private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private final long idPrefix = Instant.now().getEpochSecond();
+    private final AtomicLong idCounter = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private long window;
+    private int windowRequests;
+
+    private TrelloStandIn(Builder builder) throws IOException {
+        this.latency = builder.latency;
+        this.routeLatency = Map.copyOf(builder.routeLatency);
+        this.rateLimit = builder.rateLimit;
+
+        executor = Executors.newFixedThreadPool(builder.threads);
+        delayer = Executors.newScheduledThreadPool(2);
+        server = HttpServer.create(new InetSocketAddress(builder.host, builder.port), builder.backlog);
+        server.createContext("/1/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        Builder builder = builder().setPort(port);
+        if (args.length > 1) {
+            builder.setLatency(LatencyDistribution.fixed(Duration.ofMillis(Long.parseLong(args[1]))));
+        }
+        TrelloStandIn standIn = builder.start();
+        System.out.println("Trello stand-in listening on " + standIn.baseUri());
+    }
+
+    public URI baseUri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    public long rejectedRequests() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return GETs answered with 304 because {@code If-None-Match} matched the current {@code ETag}
+     */
+    public long notModifiedResponses() {
+        return notModified.sum();
+    }
+
+    public int boardCount() {
+        return boards.size();
+    }
+
+    /**
+     * @return distinct client connections that have sent a request
+     */
+    public int connectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Adds a board directly, without a request, for seeding.
+     *
+     * @return the new board's id
+     */
+    public String addBoard(String name) {
+        return newBoard(name, "").getId();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        delayer.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) {
+        requests.increment();
+        connections.add(exchange.getRemoteAddress());
+        String method = exchange.getRequestMethod();
+        String[] path = segments(exchange.getRequestURI().getPath());
+        Reply reply;
+        try {
+            int remaining = rateLimit > 0 ? admit() : 0;
+            if (remaining < 0) {
+                rejected.increment();
+                reply = Reply.json(429, Map.of("error", "API_TOKEN_LIMIT_EXCEEDED",
+                    "message", "Rate limit exceeded"));
+            } else {
+                reply = dispatch(method, path, params(exchange));
+            }
+            if (rateLimit > 0) {
+                exchange.getResponseHeaders().set("x-rate-limit-api-token-max", String.valueOf(rateLimit));
+                exchange.getResponseHeaders().set("x-rate-limit-api-token-remaining",
+                    String.valueOf(Math.max(0, remaining)));
+            }
+        } catch (RuntimeException | IOException ex) {
+            reply = Reply.text(500, String.valueOf(ex));
+        }
+
+        if ("GET".equals(method) && reply.status == 200) {
+            String etag = etag(reply.body);
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.increment();
+                reply = new Reply(304, reply.contentType, new byte[0]);
+            }
+        }
+
+        long delay = routeLatency.getOrDefault(method + " " + route(path), latency).sampleNanos();
+        Reply response = reply;
+        if (delay > 0) {
+            delayer.schedule(() -> send(exchange, response), delay, TimeUnit.NANOSECONDS);
+        } else {
+            send(exchange, response);
+        }
+    }
+
+    private Reply dispatch(String method, String[] path, Map<String, String> params) throws IOException {
+        if (path.length == 0) {
+            return Reply.text(404, "Cannot " + method + " /1/");
+        }
+        switch (path[0]) {
+            case "boards":
+                return boards(method, path, params);
+            case "lists":
+                return lists(method, path, params);
+            case "cards":
+                return cards(method, path, params);
+            case "batch":
+                return batch(method, params);
+            case "members":
+                return members(method, path, params);
+            default:
+                return Reply.text(404, "Cannot " + method + " /1/" + String.join("/", path));
+        }
+    }
+
+    private Reply boards(String method, String[] path, Map<String, String> params) throws IOException {
+        if (path.length == 1 && "POST".equals(method)) {
+            String name = params.get("name");
+            if (name == null || name.isBlank()) {
+                return Reply.text(400, "invalid value for name");
+            }
+            return boardReply(newBoard(name, params.getOrDefault("desc", "")));
+        }
+        if (path.length != 2) {
+            return Reply.text(404, "Cannot " + method + " /1/boards");
+        }
+        if (!ID.matcher(path[1]).matches()) {
+            return Reply.text(400, "invalid id");
+        }
+        TrelloBoard board = boards.get(path[1]);
+        if (board == null) {
+            return Reply.text(404, NOT_FOUND);
+        }
+        switch (method) {
+            case "GET":
+                return boardReply(board, params.get("fields"));
+            case "PUT":
+                String closed = params.get("closed");
+                if (closed != null && !"true".equals(closed) && !"false".equals(closed)) {
+                    return Reply.text(400, "invalid value for closed");
+                }
+                synchronized (board) {
+                    if (params.containsKey("name")) {
+                        board.setName(params.get("name"));
+                    }
+                    if (params.containsKey("desc")) {
+                        board.setDesc(params.get("desc"));
+                    }
+                    if (closed != null) {
+                        board.setClosed(Boolean.parseBoolean(closed));
+                    }
+                }
+                return boardReply(board);
+            case "DELETE":
+                boards.remove(board.getId());
+                lists.values().removeIf(list -> {
+                    boolean onBoard = board.getId().equals(list.get("idBoard"));
+                    if (onBoard) {
+                        listCards.remove((String) list.get("id"));
+                    }
+                    return onBoard;
+                });
+                cards.values().removeIf(card -> {
+                    boolean onBoard = board.getId().equals(card.get("idBoard"));
+                    if (onBoard) {
+                        attachments.remove((String) card.get("id"));
+                    }
+                    return onBoard;
+                });
+                return Reply.json(200, singletonNull("_value"));
+            default:
+                return Reply.text(404, "Cannot " + method + " /1/boards/" + path[1]);
+        }
+    }
+
+    private Reply lists(String method, String[] path, Map<String, String> params) throws IOException {
+        if (path.length == 1 && "POST".equals(method)) {
+            String name = params.get("name");
+            String idBoard = params.get("idBoard");
+            if (name == null || name.isBlank()) {
+                return Reply.text(400, "invalid value for name");
+            }
+            if (idBoard == null || !boards.containsKey(idBoard)) {
+                return Reply.text(400, "invalid value for idBoard");
+            }
+            Map<String, Object> list = new LinkedHashMap<>();
+            list.put("id", nextId());
+            list.put("name", name);
+            list.put("closed", false);
+            list.put("idBoard", idBoard);
+            list.put("pos", 65535 * (lists.size() + 1));
+            lists.put((String) list.get("id"), list);
+            listCards.put((String) list.get("id"), new ConcurrentSkipListSet<>());
+            return entityReply(list);
+        }
+        if (path.length < 2 || path.length > 3) {
+            return Reply.text(404, "Cannot " + method + " /1/lists");
+        }
+        if (!ID.matcher(path[1]).matches()) {
+            return Reply.text(400, "invalid id");
+        }
+        Map<String, Object> list = lists.get(path[1]);
+        if (list == null) {
+            return Reply.text(404, NOT_FOUND);
+        }
+        String action = path.length == 3 ? path[2] : "";
+        if ("GET".equals(method) && action.isEmpty()) {
+            return entityReply(list);
+        }
+        if ("GET".equals(method) && "cards".equals(action)) {
+            return cardsReply(listCards.getOrDefault(path[1], new ConcurrentSkipListSet<>()));
+        }
+        if ("PUT".equals(method) && "closed".equals(action)) {
+            String value = params.get("value");
+            if (!"true".equals(value) && !"false".equals(value)) {
+                return Reply.text(400, "invalid value for value");
+            }
+            synchronized (list) {
+                list.put("closed", Boolean.parseBoolean(value));
+            }
+            return entityReply(list);
+        }
+        return Reply.text(404, "Cannot " + method + " /1/lists/" + path[1] + "/" + action);
+    }
+
+    private Reply cards(String method, String[] path, Map<String, String> params) throws IOException {
+        if (path.length == 1 && "POST".equals(method)) {
+            String idList = params.get("idList");
+            Map<String, Object> list = idList == null ? null : lists.get(idList);
+            if (list == null) {
+                return Reply.text(400, "invalid value for idList");
+            }
+            String id = nextId();
+            Map<String, Object> card = new LinkedHashMap<>();
+            card.put("id", id);
+            card.put("name", params.getOrDefault("name", ""));
+            card.put("desc", params.getOrDefault("desc", ""));
+            card.put("closed", false);
+            card.put("idList", idList);
+            card.put("idBoard", list.get("idBoard"));
+            card.put("pos", 65535 * (idCounter.get() + 1));
+            card.put("shortUrl", "https://trello.com/c/" + id.substring(16));
+            cards.put(id, card);
+            listCards.get(idList).add(id);
+            return entityReply(card);
+        }
+        if (path.length < 2 || path.length > 3) {
+            return Reply.text(404, "Cannot " + method + " /1/cards");
+        }
+        if (!ID.matcher(path[1]).matches()) {
+            return Reply.text(400, "invalid id");
+        }
+        Map<String, Object> card = cards.get(path[1]);
+        if (card == null) {
+            return Reply.text(404, NOT_FOUND);
+        }
+        if (path.length == 3) {
+            if (!"attachments".equals(path[2])) {
+                return Reply.text(404, "Cannot " + method + " /1/cards/" + path[1] + "/" + path[2]);
+            }
+            if ("POST".equals(method)) {
+                Map<String, Object> attachment = new LinkedHashMap<>();
+                attachment.put("id", nextId());
+                attachment.put("name", params.getOrDefault("name", params.getOrDefault("url", "")));
+                attachment.put("url", params.getOrDefault("url", ""));
+                attachment.put("date", Instant.now().toString());
+                attachment.put("bytes", null);
+                attachment.put("isUpload", false);
+                attachment.put("mimeType", "");
+                attachments.computeIfAbsent(path[1], id -> new CopyOnWriteArrayList<>()).add(attachment);
+                return entityReply(attachment);
+            }
+            return Reply.json(200, attachments.getOrDefault(path[1], List.of()));
+        }
+        switch (method) {
+            case "GET":
+                return entityReply(card);
+            case "PUT":
+                synchronized (card) {
+                    for (String field : List.of("name", "desc")) {
+                        if (params.containsKey(field)) {
+                            card.put(field, params.get(field));
+                        }
+                    }
+                    if (params.containsKey("closed")) {
+                        card.put("closed", Boolean.parseBoolean(params.get("closed")));
+                    }
+                }
+                return entityReply(card);
+            case "DELETE":
+                cards.remove(path[1]);
+                NavigableSet<String> inList = listCards.get((String) card.get("idList"));
+                if (inList != null) {
+                    inList.remove(path[1]);
+                }
+                attachments.remove(path[1]);
+                return Reply.json(200, Map.of("limits", Map.of()));
+            default:
+                return Reply.text(404, "Cannot " + method + " /1/cards/" + path[1]);
+        }
+    }
+
+    private Reply batch(String method, Map<String, String> params) throws IOException {
+        if (!"GET".equals(method)) {
+            return Reply.text(404, "Cannot " + method + " /1/batch");
+        }
+        String[] urls = params.getOrDefault("urls", "").split(",");
+        if (urls.length > BATCH_LIMIT) {
+            return Reply.text(400, "Too many urls, max is " + BATCH_LIMIT);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator json = MAPPER.getFactory().createGenerator(out)) {
+            json.writeStartArray();
+            for (String url : urls) {
+                String[] path = segments(url.startsWith("/1/") ? url : "/1" + url);
+                Reply reply = dispatch("GET", path, Map.of());
+                json.writeStartObject();
+                json.writeFieldName(String.valueOf(reply.status));
+                if (reply.status == 200) {
+                    json.writeRawValue(new String(reply.body, StandardCharsets.UTF_8));
+                } else {
+                    json.writeString(new String(reply.body, StandardCharsets.UTF_8));
+                }
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+        return new Reply(200, JSON, out.toByteArray());
+    }
+
+    private TrelloBoard newBoard(String name, String desc) {
+        TrelloBoard board;
+        try {
+            board = MAPPER.readValue(BOARD_TEMPLATE, TrelloBoard.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        String id = nextId();
+        board.setId(id);
+        board.setName(name);
+        board.setDesc(desc);
+        board.setClosed(false);
+        board.setUrl("https://trello.com/b/" + id.substring(16) + "/" + name.toLowerCase().replace(' ', '-'));
+        board.setShortUrl("https://trello.com/b/" + id.substring(16));
+        boards.put(id, board);
+        return board;
+    }
+
+    private Reply boardReply(TrelloBoard board) throws IOException {
+        synchronized (board) {
+            return new Reply(200, JSON, MAPPER.writeValueAsBytes(board));
+        }
+    }
+
+    /**
+     * {@code all} or no value returns the whole board and an unknown name is a 400.
+     */
+    private Reply boardReply(TrelloBoard board, String fields) throws IOException {
+        if (fields == null || "all".equals(fields)) {
+            return boardReply(board);
+        }
+        if (!validFields(fields)) {
+            return Reply.text(400, "invalid value for fields");
+        }
+        return new Reply(200, JSON, MAPPER.writeValueAsBytes(project(board, fields)));
+    }
+
+    /**
+     * The token's member is the owner of every board, so {@code /1/members/me/boards} lists them all.
+     */
+    private Reply members(String method, String[] path, Map<String, String> params) throws IOException {
+        if (!"GET".equals(method) || path.length != 3 || !"me".equals(path[1]) || !"boards".equals(path[2])) {
+            return Reply.text(404, "Cannot " + method + " /1/" + String.join("/", path));
+        }
+        String fields = params.get("fields");
+        if (fields != null && !"all".equals(fields) && !validFields(fields)) {
+            return Reply.text(400, "invalid value for fields");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator json = MAPPER.getFactory().createGenerator(out)) {
+            json.writeStartArray();
+            for (TrelloBoard board : boards.values()) {
+                if (fields == null || "all".equals(fields)) {
+                    synchronized (board) {
+                        json.writeObject(board);
+                    }
+                } else {
+                    json.writeTree(project(board, fields));
+                }
+            }
+            json.writeEndArray();
+        }
+        return new Reply(200, JSON, out.toByteArray());
+    }
+
+    private static boolean validFields(String fields) {
+        return BOARD_FIELDS.containsAll(List.of(fields.split(",")));
+    }
+
+    /**
+     * Mirrors Trello's {@code fields=} selection: {@code id} is always included.
+     */
+    private static ObjectNode project(TrelloBoard board, String fields) {
+        ObjectNode node;
+        synchronized (board) {
+            node = MAPPER.valueToTree(board);
+        }
+        node.retain(new LinkedHashSet<>(List.of(fields.split(","))));
+        ObjectNode projected = MAPPER.createObjectNode().put("id", board.getId());
+        projected.setAll(node);
+        return projected;
+    }
+
+    private static Reply entityReply(Map<String, Object> entity) throws IOException {
+        synchronized (entity) {
+            return new Reply(200, JSON, MAPPER.writeValueAsBytes(entity));
+        }
+    }
+
+    private Reply cardsReply(NavigableSet<String> ids) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ids.size() * 192 + 2);
+        try (JsonGenerator json = MAPPER.getFactory().createGenerator(out)) {
+            json.writeStartArray();
+            for (String id : ids) {
+                Map<String, Object> card = cards.get(id);
+                if (card != null) {
+                    synchronized (card) {
+                        json.writeObject(card);
+                    }
+                }
+            }
+            json.writeEndArray();
+        }
+        return new Reply(200, JSON, out.toByteArray());
+    }
+
+    private synchronized int admit() {
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        if (second != window) {
+            window = second;
+            windowRequests = 0;
+        }
+        return ++windowRequests <= rateLimit ? rateLimit - windowRequests : -1;
+    }
+
+    private static String etag(byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return "\"" + Long.toHexString(crc.getValue()) + "\"";
+    }
+
+    private String nextId() {
+        return String.format("%08x%016x", idPrefix, idCounter.incrementAndGet());
+    }
+
+    private static void send(HttpExchange exchange, Reply reply) {
+        try {
+            exchange.getResponseHeaders().set("Content-Type", reply.contentType);
+            exchange.sendResponseHeaders(reply.status, reply.body.length == 0 ? -1 : reply.body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(reply.body);
+            }
+        } catch (IOException ex) {
+            // client went away
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * @return the path below {@code /1/}, e.g. {@code ["lists", "<id>", "cards"]}
+     */
+    private static String[] segments(String path) {
+        String[] parts = Arrays.stream(path.split("/")).filter(part -> !part.isEmpty()).toArray(String[]::new);
+        return parts.length > 0 && "1".equals(parts[0]) ? Arrays.copyOfRange(parts, 1, parts.length) : parts;
+    }
+
+    /**
+     * Route template used for per-route latency, e.g. {@code /1/lists/{id}/cards}.
+     */
+    public static String route(String[] path) {
+        StringBuilder route = new StringBuilder("/1");
+        for (int i = 0; i < path.length; i++) {
+            route.append('/').append(i % 2 == 1 ? "{id}" : path[i]);
+        }
+        return route.toString();
+    }
+
+    private static Map<String, String> params(HttpExchange exchange) throws IOException {
+        Map<String, String> params = new HashMap<>();
+        parseForm(exchange.getRequestURI().getRawQuery(), params);
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] form = body.readAllBytes();
+            if (contentType != null && contentType.startsWith("application/x-www-form-urlencoded")) {
+                parseForm(new String(form, StandardCharsets.UTF_8), params);
+            }
+        }
+        return params;
+    }
+
+    private static void parseForm(String encoded, Map<String, String> params) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        for (String pair : encoded.split("&")) {
+            int eq = pair.indexOf('=');
+            String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(name, value);
+        }
+    }
+
+    private static Map<String, Object> singletonNull(String field) {
+        Map<String, Object> map = new HashMap<>();
+        map.put(field, null);
+        return map;
+    }
+
+    private static byte[] boardTemplate() {
+        try (InputStream in = TrelloStandIn.class.getResourceAsStream("/schemes/TrelloBoard.json")) {
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static final class Reply {
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+
+        Reply(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        static Reply text(int status, String text) {
+            return new Reply(status, TEXT, text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Reply json(int status, Object value) throws IOException {
+            return new Reply(status, JSON, MAPPER.writeValueAsBytes(value));
+        }
+    }
+
+    public static class Builder {
+        private String host = "127.0.0.1";
+        private int port;
+        private int threads = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+        private int backlog = 1024;
+        private int rateLimit;
+        private LatencyDistribution latency = LatencyDistribution.none();
+        private final Map<String, LatencyDistribution> routeLatency = new HashMap<>();
+
+        public Builder setHost(String host) {
+            this.host = host;
+            return this;
+        }
+
+        /**
+         * @param port listening port, 0 for an ephemeral one
+         */
+        public Builder setPort(int port) {
+            this.port = port;
+            return this;
+        }
+
+        public Builder setThreads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public Builder setBacklog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        public Builder setLatency(LatencyDistribution latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * @param route method and route template, e.g. {@code "POST /1/boards"} or {@code "GET /1/lists/{id}/cards"}
+         */
+        public Builder setLatency(String route, LatencyDistribution latency) {
+            this.routeLatency.put(route, latency);
+            return this;
+        }
+
+        /**
+         * @param requestsPerSecond requests admitted per one-second window before answering 429; 0 for no limit
+         */
+        public Builder setRateLimit(int requestsPerSecond) {
+            this.rateLimit = requestsPerSecond;
+            return this;
+        }
+
+        public TrelloStandIn start() throws IOException {
+            return new TrelloStandIn(this);
+        }
+    }
+}
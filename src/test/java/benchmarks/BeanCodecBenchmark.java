@@ -0,0 +1,67 @@
+package benchmarks;
+
+import beans.BeanCodecs;
+import beans.TrelloBoard;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Steady-state reading and writing of the recorded board with Jackson's reflective bean codecs versus the
+ * {@link BeanCodecs} generated at build time. {@link BeanCodecStartupBenchmark} covers the first request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BeanCodecBenchmark {
+    private final byte[] payload = Payloads.load("board.json");
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper generated = new ObjectMapper().registerModule(BeanCodecs.module());
+    private final ObjectReader reflectiveReader = reflective.readerFor(TrelloBoard.class);
+    private final ObjectReader generatedReader = generated.readerFor(TrelloBoard.class);
+    private final ObjectWriter reflectiveWriter = reflective.writerFor(TrelloBoard.class);
+    private final ObjectWriter generatedWriter = generated.writerFor(TrelloBoard.class);
+    private final TrelloBoard board = readBoard();
+
+    private TrelloBoard readBoard() {
+        try {
+            return reflectiveReader.readValue(payload);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Benchmark
+    public TrelloBoard reflectiveRead() throws IOException {
+        return reflectiveReader.readValue(payload);
+    }
+
+    @Benchmark
+    public TrelloBoard generatedRead() throws IOException {
+        return generatedReader.readValue(payload);
+    }
+
+    @Benchmark
+    public byte[] reflectiveWrite() throws IOException {
+        return reflectiveWriter.writeValueAsBytes(board);
+    }
+
+    @Benchmark
+    public byte[] generatedWrite() throws IOException {
+        return generatedWriter.writeValueAsBytes(board);
+    }
+}
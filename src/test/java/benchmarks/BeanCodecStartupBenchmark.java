@@ -0,0 +1,42 @@
+package benchmarks;
+
+import beans.BeanCodecs;
+import beans.TrelloBoard;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The first board read and written in a fresh JVM, which for the reflective codecs includes introspecting
+ * {@link TrelloBoard} and its nested beans. One shot per fork, so every sample is a cold start.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class BeanCodecStartupBenchmark {
+    private final byte[] payload = Payloads.load("board.json");
+
+    @Benchmark
+    public byte[] reflectiveFirstBoard() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        return mapper.writeValueAsBytes(mapper.readValue(payload, TrelloBoard.class));
+    }
+
+    @Benchmark
+    public byte[] generatedFirstBoard() throws IOException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(BeanCodecs.module());
+        return mapper.writeValueAsBytes(mapper.readValue(payload, TrelloBoard.class));
+    }
+}
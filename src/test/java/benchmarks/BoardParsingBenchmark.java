@@ -0,0 +1,74 @@
+package benchmarks;
+
+import beans.LabelNames;
+import beans.Prefs;
+import beans.TrelloBoard;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.reflect.TypeToken;
+import com.google.gson.Gson;
+import core.BoardReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Board deserialization from a recorded payload: the former Gson path
+ * (body copied into a trimmed String, new Gson and TypeToken per call)
+ * versus {@link BoardReader} streaming from the body bytes, plus the nested
+ * {@link Prefs} and {@link LabelNames} objects on their own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardParsingBenchmark {
+    private final byte[] payload = Payloads.load("board.json");
+    private final ObjectReader prefsReader = BoardReader.mapper().readerFor(Prefs.class);
+    private final ObjectReader labelNamesReader = BoardReader.mapper().readerFor(LabelNames.class);
+    private final byte[] prefs = nested("prefs");
+    private final byte[] labelNames = nested("labelNames");
+
+    @Benchmark
+    public TrelloBoard gsonFromString() {
+        return new Gson().fromJson(new String(payload, StandardCharsets.UTF_8).trim(),
+            new TypeToken<TrelloBoard>() {
+            }.getType());
+    }
+
+    @Benchmark
+    public TrelloBoard jacksonStream() {
+        return BoardReader.read(new ByteArrayInputStream(payload));
+    }
+
+    @Benchmark
+    public Prefs prefs() throws IOException {
+        return prefsReader.readValue(prefs);
+    }
+
+    @Benchmark
+    public LabelNames labelNames() throws IOException {
+        return labelNamesReader.readValue(labelNames);
+    }
+
+    private byte[] nested(String field) {
+        try {
+            JsonNode board = BoardReader.mapper().readTree(payload);
+            return BoardReader.mapper().writeValueAsBytes(board.get(field));
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package benchmarks;
+
+import beans.TrelloBoard;
+import core.BoardProjection;
+import core.BoardReader;
+import core.BoardSummary;
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading a board in full versus through the {@link BoardSummary} projection, from the recorded
+ * full payload ({@code board.json}, 2067 bytes) and from the payload Trello sends for
+ * {@code fields=id,name,closed} ({@code board-summary.json}, 87 bytes).
+ * {@code summaryFromFullPayload} isolates the cost of skipping unselected fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardProjectionBenchmark {
+    private final byte[] fullPayload = Payloads.load("board.json");
+    private final byte[] summaryPayload = Payloads.load("board-summary.json");
+    private final BoardProjection<BoardSummary> summary = BoardProjection.of(BoardSummary.class);
+
+    @Benchmark
+    public TrelloBoard fullBoard() {
+        return BoardReader.read(new ByteArrayInputStream(fullPayload));
+    }
+
+    @Benchmark
+    public BoardSummary summaryFromFullPayload() {
+        return summary.read(new ByteArrayInputStream(fullPayload));
+    }
+
+    @Benchmark
+    public BoardSummary summary() {
+        return summary.read(new ByteArrayInputStream(summaryPayload));
+    }
+}
@@ -0,0 +1,109 @@
+package benchmarks;
+
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import core.ConnectionPool;
+import io.restassured.RestAssured;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request latency against a loopback HTTPS stand-in: REST Assured's default client
+ * (new connection and TLS handshake per call) versus the shared {@link ConnectionPool}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class ConnectionPoolBenchmark {
+    private static final char[] PASSWORD = "changeit".toCharArray();
+    private static final byte[] BOARD = "{\"id\":\"617efbb826edf02a716c8a9e\",\"name\":\"testBoard\",\"closed\":false}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private HttpsServer server;
+    private ExecutorService executor;
+    private ConnectionPool pool;
+    private URI boardUri;
+
+    @Setup(Level.Trial)
+    public void startServer() throws Exception {
+        SSLContext sslContext = loopbackSslContext();
+        server = HttpsServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+        server.createContext("/1/boards/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, BOARD.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(BOARD);
+            }
+        });
+        executor = Executors.newFixedThreadPool(4);
+        server.setExecutor(executor);
+        server.start();
+
+        boardUri = URI.create("https://127.0.0.1:" + server.getAddress().getPort() + "/1/boards/617efbb826edf02a716c8a9e");
+        pool = ConnectionPool.builder().setSslContext(sslContext).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        pool.close();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public String defaultClient() {
+        return RestAssured.given()
+            .relaxedHTTPSValidation()
+            .get(boardUri)
+            .asString();
+    }
+
+    @Benchmark
+    public String pooledClient() {
+        return RestAssured.given()
+            .config(pool.restAssuredConfig())
+            .get(boardUri)
+            .asString();
+    }
+
+    private static SSLContext loopbackSslContext() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream in = ConnectionPoolBenchmark.class.getResourceAsStream("/loopback.p12")) {
+            keyStore.load(in, PASSWORD);
+        }
+        KeyManagerFactory keys = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keys.init(keyStore, PASSWORD);
+        TrustManagerFactory trust = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trust.init(keyStore);
+
+        SSLContext context = SSLContext.getInstance("TLS");
+        context.init(keys.getKeyManagers(), trust.getTrustManagers(), null);
+        return context;
+    }
+}
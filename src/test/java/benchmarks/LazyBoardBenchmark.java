@@ -0,0 +1,105 @@
+package benchmarks;
+
+import beans.Prefs;
+import beans.TrelloBoard;
+import core.BoardReader;
+import core.BoardResult;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Eager {@link BoardReader#read} versus {@link BoardReader#readLazy} on the recorded board for the
+ * common access patterns: only the id, only {@code closed}, and {@code prefs} (which pays the decode).
+ * Run with {@code -prof gc} to compare allocation per board. The batch case reads {@value #BATCH} lazy boards
+ * from one {@code /1/batch} response and prints how much one of them retains.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyBoardBenchmark {
+    private static final int BATCH = 10;
+
+    private final byte[] payload = Payloads.load("board.json");
+    private final List<String> ids = new ArrayList<>();
+    private byte[] batch;
+    private boolean lazy;
+
+    @Setup(Level.Trial)
+    public void buildBatch() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes("[".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < BATCH; i++) {
+            out.writeBytes((i == 0 ? "{\"200\":" : ",{\"200\":").getBytes(StandardCharsets.UTF_8));
+            out.writeBytes(payload);
+            out.writeBytes("}".getBytes(StandardCharsets.UTF_8));
+            ids.add("board" + i);
+        }
+        out.writeBytes("]".getBytes(StandardCharsets.UTF_8));
+        batch = out.toByteArray();
+        lazy = BoardReader.isLazy();
+        BoardReader.setLazy(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void reportRetainedSize() {
+        TrelloBoard board = lazyBatch().get(0).board();
+        System.out.printf("%nRetained by one lazy board from a batch of %d: %d bytes (response %d bytes)%n",
+            BATCH, GraphLayout.parseInstance(board).totalSize(), batch.length);
+        BoardReader.setLazy(lazy);
+    }
+
+    @Benchmark
+    public String eagerId() {
+        return BoardReader.read(new ByteArrayInputStream(payload)).getId();
+    }
+
+    @Benchmark
+    public String lazyId() {
+        return BoardReader.readLazy(new ByteArrayInputStream(payload)).getId();
+    }
+
+    @Benchmark
+    public Boolean eagerClosed() {
+        return BoardReader.read(new ByteArrayInputStream(payload)).getClosed();
+    }
+
+    @Benchmark
+    public Boolean lazyClosed() {
+        return BoardReader.readLazy(new ByteArrayInputStream(payload)).getClosed();
+    }
+
+    @Benchmark
+    public Prefs eagerPrefs() {
+        return BoardReader.read(new ByteArrayInputStream(payload)).getPrefs();
+    }
+
+    @Benchmark
+    public Prefs lazyPrefs() {
+        return BoardReader.readLazy(new ByteArrayInputStream(payload)).getPrefs();
+    }
+
+    @Benchmark
+    public List<BoardResult> lazyBatch() {
+        return BoardReader.readBatch(new ByteArrayInputStream(batch), ids);
+    }
+}
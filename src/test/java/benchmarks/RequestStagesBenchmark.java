@@ -0,0 +1,86 @@
+package benchmarks;
+
+import constants.BoardParameters;
+import constants.ResponseStatus;
+import core.SpecRegistry;
+import core.TrelloServiceObj;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import server.TrelloStandIn;
+
+/**
+ * The in-process stages of {@code boardRequest} around the network call: building the request
+ * object, encoding its query string the way REST Assured does when sending, and validating a
+ * response against the shared spec. Parsing is covered by {@link BoardParsingBenchmark}.
+ * The validated response is a real one, fetched once from a {@link TrelloStandIn}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class RequestStagesBenchmark {
+    private static final String BOARD_ID = "617efbb826edf02a716c8a9e";
+    private static final Map<String, String> UPDATE = Map.of(
+        BoardParameters.NAME.getParameterName(), "Sprint board",
+        BoardParameters.DESCRIPTION.getParameterName(), "Release 1.2 & hotfixes: 100% done",
+        BoardParameters.CLOSED.getParameterName(), "false"
+    );
+
+    private final ResponseSpecification expected = SpecRegistry.response(ResponseStatus.GOOD_RESPONSE);
+    private Response recorded;
+
+    @Setup(Level.Trial)
+    public void recordResponse() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            URI boards = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI);
+            String id = RestAssured.given().queryParam("name", "validated").post(boards).path("id");
+            recorded = RestAssured.get(boards.resolve(id));
+            recorded.asByteArray();
+        }
+    }
+
+    @Benchmark
+    public TrelloServiceObj buildRequest() {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.PUT)
+            .setTarget(TrelloServiceObj.boardUri(BOARD_ID))
+            .setParameters(UPDATE)
+            .buildRequest();
+    }
+
+    @Benchmark
+    public String encodeQuery() {
+        FilterableRequestSpecification request = (FilterableRequestSpecification) RestAssured
+            .with()
+            .spec(SpecRegistry.baseRequest())
+            .param("key", "0123456789abcdef0123456789abcdef")
+            .param("token", "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef")
+            .queryParams(UPDATE)
+            .baseUri(TrelloServiceObj.boardUri(BOARD_ID).toString());
+        return request.getURI();
+    }
+
+    @Benchmark
+    public Object validate() {
+        return recorded.then().assertThat().spec(expected);
+    }
+}
@@ -0,0 +1,63 @@
+package benchmarks;
+
+import static constants.ResponseStatus.GOOD_RESPONSE;
+
+import beans.TrelloBoard;
+import constants.BoardParameters;
+import core.TrelloServiceObj;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import server.TrelloStandIn;
+
+/**
+ * Whole {@code boardRequest} round-trips through the pooled client against a loopback
+ * {@link TrelloStandIn} with no added latency, so the score is client plus loopback cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class RoundTripBenchmark {
+    private TrelloStandIn standIn;
+    private URI previousBaseUri;
+    private String boardId;
+
+    @Setup(Level.Trial)
+    public void startStandIn() throws Exception {
+        standIn = TrelloStandIn.builder().start();
+        previousBaseUri = TrelloServiceObj.getBaseUri();
+        TrelloServiceObj.setBaseUri(standIn.baseUri());
+        boardId = TrelloServiceObj.createBoard("round-trip", GOOD_RESPONSE).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStandIn() {
+        TrelloServiceObj.setBaseUri(previousBaseUri);
+        standIn.close();
+    }
+
+    @Benchmark
+    public TrelloBoard getBoard() {
+        return TrelloServiceObj.getBoard(boardId, GOOD_RESPONSE);
+    }
+
+    @Benchmark
+    public TrelloBoard updateBoard() {
+        return TrelloServiceObj.updateBoard(boardId, BoardParameters.DESCRIPTION.getParameterName(), "updated",
+            GOOD_RESPONSE);
+    }
+}
@@ -0,0 +1,52 @@
+package benchmarks;
+
+import beans.TrelloBoard;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import core.BoardReader;
+import core.SchemaValidator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Streaming the recorded board into a {@link TrelloBoard} with and without the {@link SchemaValidator} wrapped
+ * around the parser, so the difference is the cost of validation alone.
+ * Run with {@code -prof gc} to see that validating allocates only the parser wrapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaValidationBenchmark {
+    private final byte[] payload = Payloads.load("board.json");
+    private final JsonFactory factory = BoardReader.mapper().getFactory();
+    private final ObjectReader reader = BoardReader.mapper().readerFor(TrelloBoard.class);
+    private final SchemaValidator validator = SchemaValidator.forType(TrelloBoard.class);
+
+    @Benchmark
+    public TrelloBoard parse() throws IOException {
+        try (JsonParser parser = factory.createParser(new ByteArrayInputStream(payload))) {
+            return reader.readValue(parser);
+        }
+    }
+
+    @Benchmark
+    public TrelloBoard parseAndValidate() throws IOException {
+        try (JsonParser parser = validator.wrap(factory.createParser(new ByteArrayInputStream(payload)))) {
+            return reader.readValue(parser);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import static io.restassured.http.ContentType.URLENC;
+import static org.hamcrest.Matchers.lessThan;
+
+import constants.ResponseStatus;
+import core.SpecRegistry;
+import core.TrelloServiceObj;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import io.restassured.specification.ResponseSpecification;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-request spec overhead: rebuilding specs through builders (old path) versus
+ * taking the shared instances from {@link SpecRegistry}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpecBuildingBenchmark {
+
+    @Benchmark
+    public void rebuiltSpecs(Blackhole blackhole) {
+        RequestSpecification base = new RequestSpecBuilder()
+            .setAccept(ContentType.JSON)
+            .setBaseUri(TrelloServiceObj.TRELLO_URL)
+            .setContentType(URLENC.withCharset(StandardCharsets.UTF_8))
+            .build();
+        ResponseSpecification expected = new ResponseSpecBuilder()
+            .expectContentType(ContentType.JSON)
+            .expectResponseTime(lessThan(10000L))
+            .expectStatusCode(HttpStatus.SC_OK)
+            .build();
+        blackhole.consume(RestAssured.with().spec(base));
+        blackhole.consume(expected);
+    }
+
+    @Benchmark
+    public void sharedSpecs(Blackhole blackhole) {
+        blackhole.consume(RestAssured.with().spec(SpecRegistry.baseRequest()));
+        blackhole.consume(SpecRegistry.response(ResponseStatus.GOOD_RESPONSE));
+    }
+}
@@ -0,0 +1,101 @@
+package benchmarks;
+
+import static constants.ResponseStatus.GOOD_RESPONSE;
+
+import beans.TrelloBoard;
+import core.HttpClientTransport;
+import core.RestAssuredTransport;
+import core.Transport;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import server.TrelloStandIn;
+
+/**
+ * {@code boardRequest} GETs through each {@link Transport} against a loopback {@link TrelloStandIn}, under
+ * {@value #THREADS} blocking callers and as bursts of {@value #BURST} async requests from one thread.
+ * Sample time gives the latency percentiles next to the throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class TransportBenchmark {
+    private static final int THREADS = 32;
+    private static final int BURST = 64;
+
+    @Param({"restassured", "httpclient"})
+    private String transportName;
+
+    private TrelloStandIn standIn;
+    private Transport transport;
+    private ExecutorService executor;
+    private URI board;
+
+    @Setup(Level.Trial)
+    public void startStandIn() throws Exception {
+        standIn = TrelloStandIn.builder().start();
+        transport = "httpclient".equals(transportName)
+            ? HttpClientTransport.builder().build()
+            : new RestAssuredTransport();
+        executor = Executors.newFixedThreadPool(4);
+        URI boards = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI);
+        TrelloBoard created = TrelloServiceObj.requestBuilder()
+            .setTransport(transport)
+            .setMethod(Method.POST)
+            .setTarget(boards)
+            .setName("transport")
+            .buildRequest()
+            .boardRequest(GOOD_RESPONSE);
+        board = boards.resolve(created.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopStandIn() {
+        executor.shutdown();
+        standIn.close();
+    }
+
+    @Benchmark
+    @Threads(THREADS)
+    public TrelloBoard getBoard() {
+        return get().boardRequest(GOOD_RESPONSE);
+    }
+
+    @Benchmark
+    public Object getBoardBurst() {
+        CompletableFuture<?>[] burst = new CompletableFuture<?>[BURST];
+        for (int i = 0; i < BURST; i++) {
+            burst[i] = get().boardRequestAsync(GOOD_RESPONSE, executor);
+        }
+        return CompletableFuture.allOf(burst).join();
+    }
+
+    private TrelloServiceObj get() {
+        return TrelloServiceObj.requestBuilder()
+            .setTransport(transport)
+            .setMethod(Method.GET)
+            .setTarget(board)
+            .buildRequest();
+    }
+}
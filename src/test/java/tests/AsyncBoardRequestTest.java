@@ -0,0 +1,73 @@
+package tests;
+
+import static constants.ResponseStatus.BAD_RESPONSE;
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import beans.TrelloBoard;
+import core.AsyncExecutors;
+import core.LatencyStats;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class AsyncBoardRequestTest {
+    private static final int IN_FLIGHT = 200;
+
+    private BoardStubServer server;
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = new BoardStubServer();
+        LatencyStats.exclude(server.baseUri());
+        executor = AsyncExecutors.virtualThreadPerTask();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        executor.shutdownNow();
+        server.close();
+        LatencyStats.include(server.baseUri());
+    }
+
+    @Test
+    public void completesManyRequestsInFlightTest() {
+        List<CompletableFuture<TrelloBoard>> futures = new ArrayList<>();
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            futures.add(getRequest("async" + i).boardRequestAsync(GOOD_RESPONSE, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            assertThat(futures.get(i).join().getName(), equalTo("async" + i));
+        }
+    }
+
+    @Test
+    public void failsFutureOnUnexpectedStatusTest() {
+        CompletableFuture<TrelloBoard> future = getRequest("unexpected").boardRequestAsync(BAD_RESPONSE, executor);
+        try {
+            future.join();
+            throw new IllegalStateException("Future completed despite status mismatch");
+        } catch (CompletionException ex) {
+            assertThat(ex.getCause(), instanceOf(AssertionError.class));
+        }
+    }
+
+    private TrelloServiceObj getRequest(String id) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(server.boardUri(id))
+            .buildRequest();
+    }
+}
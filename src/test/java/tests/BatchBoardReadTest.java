@@ -0,0 +1,79 @@
+package tests;
+
+import static constants.ResponseStatus.BAD_RESPONSE;
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static constants.ResponseStatus.NOT_FOUND_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.nullValue;
+import static org.testng.Assert.expectThrows;
+
+import core.AsyncExecutors;
+import core.BoardReader;
+import core.BoardResult;
+import core.TrelloServiceObj;
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import org.testng.annotations.Test;
+
+public class BatchBoardReadTest {
+    private static final int BOARDS = 95;
+
+    @Test
+    public void readsBoardsInBatchesTest() throws Exception {
+        ExecutorService executor = AsyncExecutors.cachedDaemonPool("batch-test");
+        try (BoardStubServer server = new BoardStubServer()) {
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < BOARDS; i++) {
+                ids.add(server.boardId("batched" + i));
+            }
+            Map<String, BoardResult> results = TrelloServiceObj.getBoards(server.baseUri(), ids, executor);
+
+            assertThat(server.requestCount(), equalTo(10L));
+            assertThat(results.size(), equalTo(BOARDS));
+            for (String id : ids) {
+                assertThat(results.get(id).responseStatus(), equalTo(GOOD_RESPONSE));
+                assertThat(results.get(id).board().getId(), equalTo(id));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void mapsSubResponseErrorsPerIdTest() throws Exception {
+        String missing = "0000fbb826edf02a716c8a9e";
+        String invalid = "notAnId";
+        ExecutorService executor = AsyncExecutors.cachedDaemonPool("batch-test");
+        try (BoardStubServer server = new BoardStubServer()) {
+            String good = server.boardId("good");
+            Map<String, BoardResult> results = TrelloServiceObj.getBoards(
+                server.baseUri(), List.of(good, missing, invalid, good), executor);
+
+            assertThat(results.size(), equalTo(3));
+            assertThat(results.get(good).isSuccess(), equalTo(true));
+            assertThat(results.get(missing).responseStatus(), equalTo(NOT_FOUND_RESPONSE));
+            assertThat(results.get(missing).board(), nullValue());
+            assertThat(results.get(invalid).responseStatus(), equalTo(BAD_RESPONSE));
+            assertThat(results.get(invalid).error(), equalTo("invalid id"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rejectsMissingSubResponsesTest() {
+        byte[] body = "[{\"404\":\"The requested resource was not found.\"}]".getBytes(StandardCharsets.UTF_8);
+        List<String> ids = List.of("0000fbb826edf02a716c8a9e", "0001fbb826edf02a716c8a9e");
+
+        UncheckedIOException ex = expectThrows(UncheckedIOException.class,
+            () -> BoardReader.readBatch(new ByteArrayInputStream(body), ids));
+        assertThat(ex.getMessage(), containsString("Fewer sub-responses than requested ids: 1 of 2"));
+    }
+}
@@ -0,0 +1,61 @@
+package tests;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+
+import beans.TrelloBoard;
+import beans.TrelloBoardCodec;
+import beans.TrelloCard;
+import benchmarks.Payloads;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import core.BoardReader;
+import java.util.List;
+import java.util.Map;
+import org.testng.annotations.Test;
+
+public class BeanCodecsTest {
+    private final ObjectMapper reflective = new ObjectMapper();
+    private final ObjectMapper generated = BoardReader.mapper();
+
+    @Test
+    public void generatedCodecsAreRegisteredTest() throws Exception {
+        assertThat(generated.getSerializerProviderInstance().findValueSerializer(TrelloBoard.class),
+            instanceOf(TrelloBoardCodec.Serializer.class));
+    }
+
+    @Test
+    public void boardRoundTripMatchesReflectiveCodecTest() throws Exception {
+        byte[] payload = Payloads.load("board.json");
+        TrelloBoard viaGenerated = generated.readValue(payload, TrelloBoard.class);
+        TrelloBoard viaReflective = reflective.readValue(payload, TrelloBoard.class);
+
+        assertThat(viaGenerated, equalTo(viaReflective));
+        assertThat(generated.valueToTree(viaGenerated), equalTo(reflective.valueToTree(viaReflective)));
+    }
+
+    @Test
+    public void additionalPropertiesRoundTripTest() throws Exception {
+        ObjectNode board = (ObjectNode) generated.readTree(Payloads.load("board.json"));
+        board.putObject("newObject").put("nested", 1).putNull("gone");
+        board.putNull("newNull");
+        ((ObjectNode) board.get("prefs")).putArray("newArray").add("a").add(2);
+
+        TrelloBoard read = generated.treeToValue(board, TrelloBoard.class);
+        assertThat(read.getAdditionalProperties().get("newObject"), instanceOf(Map.class));
+        assertThat(read.getPrefs().getAdditionalProperties().get("newArray"), equalTo(List.of("a", 2)));
+        assertThat(generated.valueToTree(read), equalTo(reflective.valueToTree(reflective.treeToValue(board,
+            TrelloBoard.class))));
+    }
+
+    @Test
+    public void nestedBeansAndListsTest() throws Exception {
+        JsonNode card = generated.readTree(TrelloCard.class.getResourceAsStream("/schemes/TrelloCard.json"));
+        TrelloCard viaGenerated = generated.treeToValue(card, TrelloCard.class);
+
+        assertThat(viaGenerated, equalTo(reflective.treeToValue(card, TrelloCard.class)));
+        assertThat(generated.valueToTree(viaGenerated), equalTo(reflective.valueToTree(viaGenerated)));
+    }
+}
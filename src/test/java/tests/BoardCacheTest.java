@@ -0,0 +1,101 @@
+package tests;
+
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import beans.TrelloBoard;
+import core.BoardCache;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import org.testng.annotations.Test;
+import server.TrelloStandIn;
+
+public class BoardCacheTest {
+
+    @Test
+    public void servesFreshEntriesFromCacheTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            BoardCache cache = BoardCache.builder().setBaseUri(standIn.baseUri()).build();
+            String id = createBoard(standIn, "cached");
+            long before = standIn.requestCount();
+
+            TrelloBoard first = cache.get(id);
+            TrelloBoard second = cache.get(id);
+
+            assertThat(second, equalTo(first));
+            assertThat(standIn.requestCount() - before, equalTo(1L));
+            assertThat(cache.stats(), equalTo(new BoardCache.Stats(1, 1, 0, 0, 0)));
+        }
+    }
+
+    @Test
+    public void revalidatesStaleEntriesWithEtagTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            BoardCache cache = BoardCache.builder()
+                .setBaseUri(standIn.baseUri())
+                .setTtl(Duration.ofMillis(50))
+                .build();
+            String id = createBoard(standIn, "revalidated");
+
+            cache.get(id);
+            Thread.sleep(100);
+            assertThat(cache.get(id).getName(), equalTo("revalidated"));
+
+            assertThat(standIn.notModifiedResponses(), equalTo(1L));
+            assertThat(cache.stats().revalidations(), equalTo(1L));
+        }
+    }
+
+    @Test
+    public void evictsBeyondMaximumSizeTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            BoardCache cache = BoardCache.builder()
+                .setBaseUri(standIn.baseUri())
+                .setMaximumSize(3)
+                .build();
+            for (int i = 0; i < 10; i++) {
+                cache.get(createBoard(standIn, "evicted " + i));
+            }
+
+            assertThat(cache.size(), lessThanOrEqualTo(3L));
+            assertThat(cache.stats().evictions(), greaterThan(0L));
+        }
+    }
+
+    /**
+     * The cache is passed per call rather than installed, so parallel tests never see it.
+     */
+    @Test
+    public void updatesAndDeletesInvalidateTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            BoardCache cache = BoardCache.builder().setBaseUri(standIn.baseUri()).build();
+            String id = createBoard(standIn, "cache invalidation");
+            TrelloServiceObj.getBoard(id, GOOD_RESPONSE, cache);
+            assertThat(cache.contains(id), equalTo(true));
+            TrelloServiceObj.updateBoard(id, Map.of("desc", "changed"), GOOD_RESPONSE, cache);
+            assertThat(cache.contains(id), equalTo(false));
+
+            assertThat(TrelloServiceObj.getBoard(id, GOOD_RESPONSE, cache).getDesc(), equalTo("changed"));
+            TrelloServiceObj.deleteBoard(id, GOOD_RESPONSE, cache);
+            assertThat(cache.contains(id), equalTo(false));
+            assertThat(standIn.boardCount(), equalTo(0));
+        }
+    }
+
+    private static String createBoard(TrelloStandIn standIn, String name) {
+        URI boards = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI);
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.POST)
+            .setTarget(boards)
+            .setParameters(Map.of("name", name))
+            .buildRequest()
+            .boardRequest(GOOD_RESPONSE)
+            .getId();
+    }
+}
@@ -0,0 +1,97 @@
+package tests;
+
+import static constants.ResponseStatus.ANY_RESPONSE;
+import static constants.ResponseStatus.GOOD_RESPONSE;
+
+import beans.TrelloBoard;
+import constants.BoardParameters;
+import core.TrelloServiceObj;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boards created once in parallel and recycled between tests.
+ * A returned board is reset to its original name, an empty description and {@code closed=false}
+ * with a single PUT; boards a test deleted itself are discarded and replaced by a new one of the same name.
+ */
+public class BoardPool implements AutoCloseable {
+    private static final long LEASE_TIMEOUT_SECONDS = 60;
+
+    private final BlockingQueue<TrelloBoard> idle = new LinkedBlockingQueue<>();
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+    private final Set<String> owned = ConcurrentHashMap.newKeySet();
+
+    public BoardPool(int size, String namePrefix) {
+        List<CompletableFuture<TrelloBoard>> created = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            created.add(TrelloServiceObj.createBoardAsync(namePrefix + i, GOOD_RESPONSE));
+        }
+        for (CompletableFuture<TrelloBoard> future : created) {
+            TrelloBoard board = future.join();
+            names.put(board.getId(), board.getName());
+            owned.add(board.getId());
+            idle.add(board);
+        }
+    }
+
+    public TrelloBoard lease() {
+        try {
+            TrelloBoard board = idle.poll(LEASE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (board == null) {
+                throw new IllegalStateException("No pooled board released within " + LEASE_TIMEOUT_SECONDS + "s");
+            }
+            return board;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * A board whose reset fails is deleted if it still can be and replaced, so the pool keeps its size.
+     */
+    public void release(TrelloBoard board) {
+        TrelloBoard reset;
+        try {
+            reset = TrelloServiceObj.updateBoard(board.getId(), Map.of(
+                BoardParameters.NAME.getParameterName(), names.get(board.getId()),
+                BoardParameters.DESCRIPTION.getParameterName(), "",
+                BoardParameters.CLOSED.getParameterName(), "false"
+            ), GOOD_RESPONSE);
+        } catch (Exception | AssertionError ex) {
+            TrelloServiceObj.deleteBoardAsync(board.getId(), ANY_RESPONSE);
+            discard(board);
+            return;
+        }
+        idle.add(reset);
+    }
+
+    public void discard(TrelloBoard board) {
+        owned.remove(board.getId());
+        String name = names.remove(board.getId());
+        TrelloBoard replacement = TrelloServiceObj.createBoard(name, GOOD_RESPONSE);
+        names.put(replacement.getId(), name);
+        owned.add(replacement.getId());
+        idle.add(replacement);
+    }
+
+    /**
+     * Deletes every board still owned by the pool, in parallel.
+     */
+    @Override
+    public void close() {
+        CompletableFuture.allOf(owned.stream()
+            .map(id -> TrelloServiceObj.deleteBoardAsync(id, ANY_RESPONSE))
+            .toArray(CompletableFuture[]::new))
+            .join();
+        owned.clear();
+        idle.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package tests;
+
+import static constants.ResponseStatus.BAD_RESPONSE;
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.nullValue;
+
+import beans.TrelloBoard;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import core.BoardProjection;
+import core.BoardReader;
+import core.BoardSummary;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.annotations.Test;
+import server.TrelloStandIn;
+
+public class BoardProjectionTest {
+
+    record BoardLinks(String id, String url, @JsonProperty("shortUrl") String shortLink) {
+    }
+
+    @Test
+    public void fieldsFollowRecordComponentsTest() {
+        assertThat(BoardProjection.of(BoardSummary.class).fieldsParameter(), equalTo("id,name,closed"));
+        assertThat(BoardProjection.of(BoardLinks.class).fields(), contains("id", "url", "shortUrl"));
+    }
+
+    @Test
+    public void readsOnlySelectedFieldsTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            URI board = createBoard(standIn, "projected");
+            BoardProjection<BoardSummary> summary = BoardProjection.of(BoardSummary.class);
+
+            JsonNode body = BoardReader.mapper().readTree(request(board, summary.fieldsParameter())
+                .sendRequest(GOOD_RESPONSE).asByteArray());
+            List<String> names = new ArrayList<>();
+            body.fieldNames().forEachRemaining(names::add);
+            assertThat(names, contains("id", "name", "closed"));
+
+            BoardSummary read = request(board, summary.fieldsParameter()).boardRequest(GOOD_RESPONSE, summary);
+            assertThat(read.name(), equalTo("projected"));
+            assertThat(read.closed(), equalTo(false));
+
+            BoardProjection<BoardLinks> links = BoardProjection.of(BoardLinks.class);
+            BoardLinks linksRead = request(board, links.fieldsParameter()).boardRequest(GOOD_RESPONSE, links);
+            assertThat(linksRead.id(), equalTo(read.id()));
+            assertThat(linksRead.shortLink(), equalTo("https://trello.com/b/" + read.id().substring(16)));
+        }
+    }
+
+    @Test
+    public void unknownFieldIsRejectedTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            URI board = createBoard(standIn, "projected");
+            assertThat(request(board, "name,colour").boardRequest(BAD_RESPONSE, BoardProjection.of(BoardSummary.class)),
+                nullValue());
+        }
+    }
+
+    private static URI createBoard(TrelloStandIn standIn, String name) {
+        URI boards = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI);
+        TrelloBoard created = TrelloServiceObj.requestBuilder()
+            .setMethod(Method.POST)
+            .setTarget(boards)
+            .setName(name)
+            .buildRequest()
+            .boardRequest(GOOD_RESPONSE);
+        return boards.resolve(created.getId());
+    }
+
+    private static TrelloServiceObj request(URI board, String fields) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(board)
+            .setParameter(BoardProjection.FIELDS, fields)
+            .buildRequest();
+    }
+}
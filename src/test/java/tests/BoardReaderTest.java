@@ -0,0 +1,69 @@
+package tests;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import beans.Prefs;
+import beans.TrelloBoard;
+import benchmarks.Payloads;
+import core.BoardReader;
+import core.LazyTrelloBoard;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.annotations.Test;
+
+public class BoardReaderTest {
+
+    @Test
+    public void readsRecordedBoardTest() {
+        TrelloBoard board = BoardReader.read(new ByteArrayInputStream(Payloads.load("board.json")));
+
+        assertThat(board.getId(), equalTo("617efbb826edf02a716c8a9e"));
+        assertThat(board.getClosed(), equalTo(false));
+        assertThat(board.getPrefs().getBackgroundColor(), equalTo("#0079BF"));
+        assertThat(board.getPrefs().getAdditionalProperties(), hasKey("switcherViews"));
+        assertThat(board.getLabelNames().getAdditionalProperties(), hasKey("green_dark"));
+    }
+
+    @Test
+    public void lazyBoardMatchesEagerBoardTest() {
+        TrelloBoard eager = BoardReader.read(new ByteArrayInputStream(Payloads.load("board.json")));
+        LazyTrelloBoard lazy = BoardReader.readLazy(new ByteArrayInputStream(Payloads.load("board.json")));
+
+        assertThat(lazy.getId(), equalTo(eager.getId()));
+        assertThat(lazy.getClosed(), equalTo(eager.getClosed()));
+        assertThat(lazy.getPrefs(), equalTo(eager.getPrefs()));
+        assertThat(lazy, equalTo(eager));
+        assertThat(BoardReader.mapper().valueToTree(lazy), equalTo(BoardReader.mapper().valueToTree(eager)));
+    }
+
+    @Test
+    public void lazyNestedObjectsAreDecodedOnceTest() throws Exception {
+        LazyTrelloBoard lazy = BoardReader.readLazy(new ByteArrayInputStream(Payloads.load("board.json")));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Prefs>> reads = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                reads.add(executor.submit(lazy::getPrefs));
+            }
+            Prefs first = reads.get(0).get();
+            for (Future<Prefs> read : reads) {
+                assertThat(read.get(), sameInstance(first));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void emptyBodyGivesNullTest() {
+        assertThat(BoardReader.read(new ByteArrayInputStream(new byte[0])), nullValue());
+    }
+}
@@ -0,0 +1,35 @@
+package tests;
+
+import core.BoardReaper;
+import core.TrelloServiceObj;
+import java.net.URI;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Deletes the boards this run leaked, and those of stale runs, when the suite finishes.
+ * Turned off with {@code -Dtrello.reaper=false}; a failed reap is reported, never fails the suite.
+ * <p>
+ * TestNG gives no order between suite listeners, so in a stand-in run the reap is left to
+ * {@link StandInListener}, which runs it against the stand-in before restoring the base URI.
+ */
+public class BoardReaperListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!Boolean.getBoolean("trello.standin")) {
+            reap(TrelloServiceObj.getBaseUri());
+        }
+    }
+
+    static void reap(URI baseUri) {
+        if (!Boolean.parseBoolean(System.getProperty("trello.reaper", "true"))) {
+            return;
+        }
+        try {
+            System.out.println(BoardReaper.builder().setBaseUri(baseUri).build().reap());
+        } catch (Exception | AssertionError ex) {
+            System.out.println("Board reaper failed: " + ex);
+        }
+    }
+}
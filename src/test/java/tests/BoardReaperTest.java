@@ -0,0 +1,91 @@
+package tests;
+
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import core.BoardReaper;
+import core.RunNamespace;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import org.testng.annotations.Test;
+import server.TrelloStandIn;
+
+public class BoardReaperTest {
+
+    @Test
+    public void namesCarryRunStartTest() {
+        RunNamespace run = RunNamespace.current();
+        String name = run.name("board");
+
+        assertThat(run.owns(name), equalTo(true));
+        assertThat(RunNamespace.startOf(name), equalTo(Optional.of(run.started().truncatedTo(ChronoUnit.SECONDS))));
+        assertThat(RunNamespace.startOf("testBoard"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    public void ignoresLookAlikeNamesTest() {
+        String valid = runName(Duration.ofDays(1), "board");
+        String[] parts = valid.split("-");
+        String seconds = parts[1];
+        String tag = parts[2];
+        String wrongCheck = tag.substring(0, 2) + (tag.endsWith("00") ? "01" : "00");
+
+        assertThat(RunNamespace.startOf(valid).isPresent(), equalTo(true));
+        for (String name : List.of(
+            "tt-notes-2024",
+            "tt-" + seconds + "-board",
+            "tt-" + seconds + "-" + wrongCheck + "-board",
+            "tt-0" + seconds + "-" + tag + "-board",
+            "tt-" + seconds + "-" + tag + "board",
+            "tt-" + seconds.toUpperCase() + "-" + tag + "-board",
+            runName(Duration.ofDays(3650), "before namespaces existed"),
+            runName(Duration.ofDays(-1), "from the future"))) {
+            assertThat(name, RunNamespace.startOf(name), equalTo(Optional.empty()));
+        }
+    }
+
+    @Test
+    public void reapsCurrentAndStaleRunsTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            for (int i = 0; i < 3; i++) {
+                createBoard(standIn, RunNamespace.current().name("leaked " + i));
+            }
+            for (int i = 0; i < 2; i++) {
+                createBoard(standIn, runName(Duration.ofHours(2), "stale " + i));
+                createBoard(standIn, runName(Duration.ofMinutes(5), "running " + i));
+                createBoard(standIn, "someone else's board " + i);
+                createBoard(standIn, "tt-notes-202" + i);
+            }
+
+            BoardReaper.Report report = BoardReaper.builder()
+                .setBaseUri(standIn.baseUri())
+                .setConcurrency(2)
+                .build()
+                .reap();
+
+            assertThat(report.listed(), equalTo(11));
+            assertThat(report.selected(), equalTo(5));
+            assertThat(report.reclaimed(), equalTo(5));
+            assertThat(standIn.boardCount(), equalTo(6));
+        }
+    }
+
+    private static String runName(Duration age, String suffix) {
+        return RunNamespace.startedAt(Instant.now().minus(age)).name(suffix);
+    }
+
+    private static void createBoard(TrelloStandIn standIn, String name) {
+        TrelloServiceObj.requestBuilder()
+            .setMethod(Method.POST)
+            .setTarget(standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI))
+            .setName(name)
+            .buildRequest()
+            .boardRequest(GOOD_RESPONSE);
+    }
+}
@@ -0,0 +1,59 @@
+package tests;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import server.TrelloStandIn;
+
+/**
+ * {@link TrelloStandIn} addressed by label: {@link #boardUri(String)} seeds a board named after the label the first
+ * time it is asked for, so tests can read boards without creating them over HTTP first.
+ */
+public class BoardStubServer implements AutoCloseable {
+    private final TrelloStandIn standIn;
+    private final Map<String, String> ids = new ConcurrentHashMap<>();
+
+    public BoardStubServer() throws IOException {
+        this(0);
+    }
+
+    /**
+     * @param requestsPerSecond requests admitted per one-second window before answering 429; 0 for no limit
+     */
+    public BoardStubServer(int requestsPerSecond) throws IOException {
+        standIn = TrelloStandIn.builder().setRateLimit(requestsPerSecond).start();
+    }
+
+    /**
+     * @return the id of the board named {@code label}
+     */
+    public String boardId(String label) {
+        return ids.computeIfAbsent(label, standIn::addBoard);
+    }
+
+    public URI boardUri(String label) {
+        return baseUri().resolve("/1/boards/" + boardId(label));
+    }
+
+    public URI baseUri() {
+        return standIn.baseUri();
+    }
+
+    public long requestCount() {
+        return standIn.requestCount();
+    }
+
+    public long rejectedRequests() {
+        return standIn.rejectedRequests();
+    }
+
+    public int connectionCount() {
+        return standIn.connectionCount();
+    }
+
+    @Override
+    public void close() {
+        standIn.close();
+    }
+}
@@ -0,0 +1,61 @@
+package tests;
+
+import static constants.ResponseStatus.BAD_RESPONSE;
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+
+import beans.TrelloAttachment;
+import beans.TrelloBoard;
+import beans.TrelloCard;
+import beans.TrelloList;
+import core.AttachmentServiceObj;
+import core.CardServiceObj;
+import core.JsonArrayIterator;
+import core.ListServiceObj;
+import core.RunNamespace;
+import core.TrelloServiceObj;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.testng.annotations.Test;
+
+/**
+ * The list, card and attachment flow of the {@code hw2.json} Postman collection.
+ */
+public class CardFlowTest {
+    public final int NAME_LENGTH = 16;
+    public final int ID_LENGTH = 24;
+
+    @Test
+    public void listCardAttachmentFlowTest() {
+        TrelloBoard board = TrelloServiceObj.createBoard(
+            RunNamespace.current().name(RandomStringUtils.randomAlphabetic(NAME_LENGTH)), GOOD_RESPONSE);
+        try {
+            TrelloList list = ListServiceObj.createList("To do", board.getId(), GOOD_RESPONSE);
+            assertThat(list.getIdBoard(), equalTo(board.getId()));
+
+            TrelloCard card = CardServiceObj.createCard("First card", list.getId(), GOOD_RESPONSE);
+            CardServiceObj.createCard("Second card", list.getId(), GOOD_RESPONSE);
+            try (JsonArrayIterator<TrelloCard> cards = ListServiceObj.getCards(list.getId(), GOOD_RESPONSE)) {
+                assertThat(cards.stream().map(TrelloCard::getName).collect(Collectors.toList()),
+                    equalTo(List.of("First card", "Second card")));
+            }
+
+            assertThat(CardServiceObj.renameCard(card.getId(), "Renamed card", GOOD_RESPONSE).getName(),
+                equalTo("Renamed card"));
+            CardServiceObj.renameCard(RandomStringUtils.randomAlphabetic(ID_LENGTH), "Renamed card", BAD_RESPONSE);
+
+            TrelloAttachment attachment = AttachmentServiceObj.createAttachment(
+                card.getId(), "Trello", "https://trello.com", GOOD_RESPONSE);
+            assertThat(attachment.getUrl(), equalTo("https://trello.com"));
+            assertThat(AttachmentServiceObj.getAttachments(card.getId(), GOOD_RESPONSE), hasSize(1));
+
+            CardServiceObj.deleteCard(card.getId(), GOOD_RESPONSE);
+            assertThat(ListServiceObj.archiveList(list.getId(), GOOD_RESPONSE).getClosed(), equalTo(true));
+        } finally {
+            TrelloServiceObj.deleteBoard(board.getId(), GOOD_RESPONSE);
+        }
+    }
+}
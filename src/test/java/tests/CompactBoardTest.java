@@ -0,0 +1,100 @@
+package tests;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.testng.Assert.expectThrows;
+
+import beans.TrelloBoard;
+import benchmarks.Payloads;
+import core.BoardReader;
+import core.CompactBoard;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jol.info.GraphLayout;
+import org.testng.annotations.Test;
+
+public class CompactBoardTest {
+    private static final int BOARDS = 2_000;
+    private static final String RECORDED_ID = "617efbb826edf02a716c8a9e";
+
+    @Test
+    public void roundTripsRecordedBoardTest() {
+        TrelloBoard board = recordedBoard(0);
+        CompactBoard compact = CompactBoard.of(board);
+
+        assertThat(compact.closed(), equalTo(false));
+        assertThat(compact.prefs().canInvite(), equalTo(true));
+        assertThat(compact.prefs().backgroundColor(), equalTo("#0079BF"));
+        assertThat(compact.toTrelloBoard(), equalTo(board));
+    }
+
+    @Test
+    public void sharesRepeatedValuesTest() {
+        CompactBoard first = CompactBoard.of(recordedBoard(1));
+        CompactBoard second = CompactBoard.of(recordedBoard(2));
+
+        assertThat(second.prefs(), sameInstance(first.prefs()));
+        assertThat(second.labelNames(), sameInstance(first.labelNames()));
+        assertThat(second.idOrganization(), sameInstance(first.idOrganization()));
+    }
+
+    @Test
+    public void allocatesExtrasOnlyForUnknownFieldsTest() {
+        TrelloBoard board = recordedBoard(3);
+        assertThat(CompactBoard.of(board).extras(), nullValue());
+
+        board.setAdditionalProperty("dateLastActivity", "2021-10-31T20:20:08.436Z");
+        assertThat(CompactBoard.of(board).extras().get("dateLastActivity"), equalTo("2021-10-31T20:20:08.436Z"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void descDataIsNotSharedWithCallersTest() {
+        TrelloBoard board = recordedBoard(4);
+        Map<String, Object> descData = new LinkedHashMap<>();
+        descData.put("emoji", new LinkedHashMap<>(Map.of("smile", "url")));
+        board.setDescData(descData);
+        CompactBoard compact = CompactBoard.of(board);
+
+        descData.put("emoji", "changed at the source");
+        Map<String, Object> handedOut = (Map<String, Object>) compact.toTrelloBoard().getDescData();
+        ((Map<String, Object>) handedOut.get("emoji")).put("smile", "changed by a caller");
+
+        assertThat(compact.toTrelloBoard().getDescData(), equalTo(Map.of("emoji", Map.of("smile", "url"))));
+        expectThrows(UnsupportedOperationException.class,
+            () -> ((Map<String, Object>) compact.descData()).put("emoji", null));
+    }
+
+    @Test
+    public void reportsFootprintPerBoardTest() {
+        List<TrelloBoard> beans = new ArrayList<>(BOARDS);
+        List<CompactBoard> compact = new ArrayList<>(BOARDS);
+        for (int i = 0; i < BOARDS; i++) {
+            TrelloBoard board = recordedBoard(i);
+            beans.add(board);
+            compact.add(CompactBoard.of(board));
+        }
+
+        long before = GraphLayout.parseInstance(beans).totalSize() / BOARDS;
+        long after = GraphLayout.parseInstance(compact).totalSize() / BOARDS;
+        System.out.printf("Bytes per board over %d boards: TrelloBoard %d, CompactBoard %d%n", BOARDS, before, after);
+        assertThat(after * 2, lessThan(before));
+    }
+
+    /**
+     * Parses the recorded board with its own id and name, as a separate response would have.
+     */
+    private static TrelloBoard recordedBoard(int index) {
+        String json = new String(Payloads.load("board.json"), StandardCharsets.UTF_8)
+            .replace(RECORDED_ID, String.format("%024x", index))
+            .replace("\"testBoard\"", "\"board " + index + "\"");
+        return BoardReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
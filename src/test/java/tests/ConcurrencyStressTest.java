@@ -0,0 +1,75 @@
+package tests;
+
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import beans.TrelloBoard;
+import core.LatencyStats;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class ConcurrencyStressTest {
+    private static final int CALLERS = Integer.getInteger("stress.callers", 64);
+    private static final int REQUESTS_PER_CALLER = Integer.getInteger("stress.requests", 5);
+
+    private BoardStubServer server;
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        server = new BoardStubServer();
+        LatencyStats.exclude(server.baseUri());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.close();
+        LatencyStats.include(server.baseUri());
+    }
+
+    @Test
+    public void noCrossTalkBetweenConcurrentCallersTest() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int caller = 0; caller < CALLERS; caller++) {
+                String prefix = "caller" + caller + "x";
+                results.add(callers.submit(() -> {
+                    start.await();
+                    int mismatches = 0;
+                    for (int i = 0; i < REQUESTS_PER_CALLER; i++) {
+                        String name = prefix + i;
+                        TrelloBoard board = TrelloServiceObj.requestBuilder()
+                            .setMethod(Method.GET)
+                            .setTarget(server.boardUri(name))
+                            .buildRequest()
+                            .boardRequest(GOOD_RESPONSE);
+                        if (!name.equals(board.getName())) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            start.countDown();
+
+            int mismatches = 0;
+            for (Future<Integer> result : results) {
+                mismatches += result.get();
+            }
+            assertThat(mismatches, equalTo(0));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
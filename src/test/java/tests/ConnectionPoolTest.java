@@ -0,0 +1,51 @@
+package tests;
+
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import core.ConnectionPool;
+import core.TrelloServiceObj;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import org.testng.annotations.Test;
+
+public class ConnectionPoolTest {
+    private static final int REQUESTS = 20;
+
+    @Test
+    public void reusesKeepAliveConnectionTest() throws Exception {
+        try (BoardStubServer server = new BoardStubServer();
+             ConnectionPool pool = ConnectionPool.builder().build()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                RestAssured.given()
+                    .config(pool.restAssuredConfig())
+                    .get(server.boardUri("pooled" + i))
+                    .then()
+                    .statusCode(200)
+                    .extract()
+                    .asString();
+            }
+
+            ConnectionPool.Metrics metrics = pool.metrics();
+            assertThat(server.connectionCount(), equalTo(1));
+            assertThat(metrics.leased(), equalTo(0));
+            assertThat(metrics.available(), equalTo(1));
+            assertThat(metrics.pending(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void boardRequestsUseSharedPoolTest() throws Exception {
+        try (BoardStubServer server = new BoardStubServer()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                TrelloServiceObj.requestBuilder()
+                    .setMethod(Method.GET)
+                    .setTarget(server.boardUri("shared" + i))
+                    .buildRequest()
+                    .boardRequest(GOOD_RESPONSE);
+            }
+            assertThat(server.connectionCount(), equalTo(1));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package tests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import core.CredentialProvider;
+import core.Credentials;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.testng.annotations.Test;
+
+public class CredentialProviderTest {
+    private static final long RELOAD_TIMEOUT_MS = 10000L;
+
+    @Test
+    public void loadsCredentialsOnceTest() throws Exception {
+        Path file = writeCredentials(Files.createTempDirectory("creds"), "key1", "token1");
+        try (CredentialProvider provider = new CredentialProvider(file)) {
+            Credentials credentials = provider.get();
+            assertThat(credentials.key(), equalTo("key1"));
+            assertThat(credentials.token(), equalTo("token1"));
+            assertThat(provider.get() == credentials, equalTo(true));
+        }
+    }
+
+    @Test
+    public void reloadsRotatedTokenTest() throws Exception {
+        Path file = writeCredentials(Files.createTempDirectory("creds"), "key1", "token1");
+        try (CredentialProvider provider = new CredentialProvider(file)) {
+            writeCredentials(file.getParent(), "key1", "token2");
+
+            long deadline = System.currentTimeMillis() + RELOAD_TIMEOUT_MS;
+            while (!"token2".equals(provider.get().token()) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(provider.get().token(), equalTo("token2"));
+        }
+    }
+
+    @Test
+    public void keepsCredentialsWhenFileIsIncompleteTest() throws Exception {
+        Path file = writeCredentials(Files.createTempDirectory("creds"), "key1", "token1");
+        try (CredentialProvider provider = new CredentialProvider(file)) {
+            Files.writeString(file, "key=key2\n");
+            provider.reload();
+            assertThat(provider.get().key(), equalTo("key1"));
+        }
+    }
+
+    private static Path writeCredentials(Path dir, String key, String token) throws Exception {
+        Path tmp = Files.writeString(dir.resolve("next.properties"), "key=" + key + "\ntoken=" + token + "\n");
+        return Files.move(tmp, dir.resolve("keyAndToken.properties"),
+            REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+}
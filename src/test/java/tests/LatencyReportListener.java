@@ -0,0 +1,70 @@
+package tests;
+
+import core.LatencySlo;
+import core.LatencyStats;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.HdrHistogram.Histogram;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Prints the per-endpoint latency table at suite end and checks it against the objectives in
+ * {@code latency-slo.conf}, or the file named by {@code -Dtrello.slo}. Endpoints the suite never
+ * called are skipped. Violations are reported; with {@code -Dtrello.slo.enforce=true} they fail the run.
+ */
+public class LatencyReportListener implements ISuiteListener {
+
+    @Override
+    public void onFinish(ISuite suite) {
+        System.out.println("Request latency for suite " + suite.getName());
+        System.out.print(LatencyStats.summary());
+
+        List<String> violations = new ArrayList<>();
+        for (LatencySlo slo : objectives()) {
+            Histogram histogram = LatencyStats.snapshot(slo.endpoint());
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            String violation = slo.check(histogram);
+            if (violation == null) {
+                System.out.println("PASS " + slo);
+            } else {
+                System.out.println("FAIL " + violation);
+                violations.add(violation);
+            }
+        }
+        if (!violations.isEmpty() && Boolean.getBoolean("trello.slo.enforce")) {
+            throw new AssertionError("Latency objectives violated: " + violations);
+        }
+    }
+
+    static List<LatencySlo> objectives() {
+        String file = System.getProperty("trello.slo");
+        try (InputStream in = file != null
+            ? Files.newInputStream(Path.of(file))
+            : LatencyReportListener.class.getResourceAsStream("/latency-slo.conf")) {
+            List<LatencySlo> objectives = new ArrayList<>();
+            if (in == null) {
+                return objectives;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isBlank() && !line.trim().startsWith("#")) {
+                    objectives.add(LatencySlo.parse(line));
+                }
+            }
+            return objectives;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
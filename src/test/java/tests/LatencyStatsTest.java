@@ -0,0 +1,91 @@
+package tests;
+
+import static constants.ResponseStatus.ANY_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+import core.LatencySlo;
+import core.LatencyStats;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+import server.LatencyDistribution;
+import server.TrelloStandIn;
+
+public class LatencyStatsTest {
+
+    @Test
+    public void groupsRequestsByEndpointTemplateTest() {
+        assertThat(LatencyStats.endpoint(Method.POST, URI.create("https://api.trello.com/1/boards/")),
+            equalTo("POST /1/boards"));
+        assertThat(LatencyStats.endpoint(Method.PUT, URI.create("https://api.trello.com/1/boards/617efbb826edf02a716c8a9e")),
+            equalTo("PUT /1/boards/{id}"));
+        assertThat(LatencyStats.endpoint(Method.GET, URI.create("http://127.0.0.1:8080/1/lists/abc/cards")),
+            equalTo("GET /1/lists/{id}/cards"));
+    }
+
+    @Test
+    public void assertsPercentileObjectivesTest() {
+        URI target = URI.create("http://127.0.0.1/1/slo-test/0");
+        for (int i = 1; i <= 100; i++) {
+            LatencyStats.record(Method.GET, target, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        LatencyStats.assertPercentile("GET /1/slo-test/{id}", 50, Duration.ofMillis(60));
+        AssertionError violation = null;
+        try {
+            LatencyStats.assertPercentile("GET /1/slo-test/{id}", 99, Duration.ofMillis(60));
+        } catch (AssertionError ex) {
+            violation = ex;
+        }
+        assertThat(violation.getMessage(), containsString("GET /1/slo-test/{id} p99 < 60ms violated"));
+    }
+
+    @Test
+    public void parsesObjectivesTest() {
+        LatencySlo slo = LatencySlo.parse("POST /1/boards  p99.9 < 2s");
+        assertThat(slo.endpoint(), equalTo("POST /1/boards"));
+        assertThat(slo.percentile(), equalTo(99.9));
+        assertThat(slo.limit(), equalTo(Duration.ofSeconds(2)));
+    }
+
+    @Test
+    public void recordsEveryServiceRequestTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder()
+            .setLatency("GET /1/slo-stand-in/{id}", LatencyDistribution.fixed(Duration.ofMillis(20)))
+            .start()) {
+            URI target = standIn.baseUri().resolve("/1/slo-stand-in/617efbb826edf02a716c8a9e");
+            for (int i = 0; i < 5; i++) {
+                TrelloServiceObj.requestBuilder()
+                    .setMethod(Method.GET)
+                    .setTarget(target)
+                    .setParameters(Map.of())
+                    .buildRequest()
+                    .boardRequest(ANY_RESPONSE);
+            }
+
+            assertThat(LatencyStats.snapshot("GET /1/slo-stand-in/{id}").getTotalCount(), equalTo(5L));
+            LatencyStats.assertPercentile("GET /1/slo-stand-in/{id}", 50, Duration.ofSeconds(5));
+        }
+    }
+
+    @Test
+    public void skipsExcludedServersTest() {
+        URI excluded = URI.create("http://127.0.0.1:1/");
+        LatencyStats.exclude(excluded);
+        try {
+            LatencyStats.record(Method.GET, excluded.resolve("/1/excluded-test/0"), 1);
+            LatencyStats.record(Method.GET, URI.create("http://127.0.0.1:2/1/excluded-test/0"), 1);
+        } finally {
+            LatencyStats.include(excluded);
+        }
+        LatencyStats.record(Method.GET, excluded.resolve("/1/excluded-test/0"), 1);
+
+        assertThat(LatencyStats.snapshot("GET /1/excluded-test/{id}").getTotalCount(), equalTo(2L));
+    }
+}
@@ -0,0 +1,121 @@
+package tests;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import core.LatencyStats;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import load.LoadGenerator;
+import load.LoadReport;
+import load.Operation;
+import org.testng.annotations.Test;
+import server.LatencyDistribution;
+import server.TrelloStandIn;
+
+public class LoadGeneratorTest {
+    private static final int RATE = 50;
+
+    @Test
+    public void runsScheduledMixAgainstStandInTest() throws Exception {
+        TrelloStandIn standIn = TrelloStandIn.builder().start();
+        LatencyStats.exclude(standIn.baseUri());
+        try (standIn) {
+            LoadReport report = LoadGenerator.builder()
+                .setBaseUri(standIn.baseUri())
+                .setRate(RATE)
+                .setWarmUp(Duration.ofMillis(500))
+                .setSteadyState(Duration.ofSeconds(2))
+                .setSeedBoards(5)
+                .build()
+                .run();
+
+            assertThat(report.totalCount(), equalTo(2L * RATE));
+            assertThat(report.totalErrors(), equalTo(0L));
+            assertThat(report.get(Operation.GET).histogram().getTotalCount() > 0, equalTo(true));
+            assertThat(standIn.boardCount(), equalTo(0));
+        } finally {
+            LatencyStats.include(standIn.baseUri());
+        }
+    }
+
+    @Test
+    public void recordsLatencyOnlyForScheduledOperationsTest() throws Exception {
+        long serviceMillis = 200;
+        TrelloStandIn standIn = TrelloStandIn.builder()
+            .setLatency("GET /1/boards/{id}", LatencyDistribution.fixed(Duration.ofMillis(serviceMillis)))
+            .start();
+        LatencyStats.exclude(standIn.baseUri());
+        try (standIn) {
+            LoadReport report = LoadGenerator.builder()
+                .setBaseUri(standIn.baseUri())
+                .setRate(RATE)
+                .setWarmUp(Duration.ZERO)
+                .setSteadyState(Duration.ofSeconds(1))
+                .setMix(Map.of(Operation.GET, 1))
+                .setSeedBoards(1)
+                .build()
+                .run();
+
+            long p50Millis = TimeUnit.NANOSECONDS.toMillis(
+                report.get(Operation.GET).histogram().getValueAtPercentile(50));
+            assertThat(report.get(Operation.GET).histogram().getTotalCount(), equalTo((long) RATE));
+            assertThat(p50Millis, greaterThanOrEqualTo(serviceMillis));
+            assertThat(report.get(Operation.CREATE).histogram().getTotalCount(), equalTo(0L));
+        } finally {
+            LatencyStats.include(standIn.baseUri());
+        }
+    }
+
+    @Test
+    public void recordsUnfinishedRequestsAsTimeoutsTest() throws Exception {
+        TrelloStandIn standIn = TrelloStandIn.builder()
+            .setLatency("GET /1/boards/{id}", LatencyDistribution.fixed(Duration.ofSeconds(2)))
+            .start();
+        LatencyStats.exclude(standIn.baseUri());
+        try (standIn) {
+            LoadReport report = LoadGenerator.builder()
+                .setBaseUri(standIn.baseUri())
+                .setRate(10)
+                .setWarmUp(Duration.ZERO)
+                .setSteadyState(Duration.ofMillis(500))
+                .setMix(Map.of(Operation.GET, 1))
+                .setSeedBoards(1)
+                .setDrainTimeout(Duration.ofMillis(200))
+                .build()
+                .run();
+
+            LoadReport.OperationStats gets = report.get(Operation.GET);
+            assertThat(gets.histogram().getTotalCount(), equalTo(5L));
+            assertThat(gets.statuses(), equalTo(Map.of(LoadReport.TIMEOUT, 5L)));
+            assertThat(LoadReport.category(LoadReport.TIMEOUT), equalTo("TIMEOUT"));
+            assertThat(LoadReport.category(404), equalTo("NOT_FOUND_RESPONSE"));
+        } finally {
+            LatencyStats.include(standIn.baseUri());
+        }
+    }
+
+    @Test
+    public void recordsConnectionFailuresAsTransportErrorsTest() throws Exception {
+        TrelloStandIn standIn = TrelloStandIn.builder().start();
+        URI closed = standIn.baseUri();
+        standIn.close();
+
+        LoadReport report = LoadGenerator.builder()
+            .setBaseUri(closed)
+            .setRate(10)
+            .setWarmUp(Duration.ZERO)
+            .setSteadyState(Duration.ofMillis(500))
+            .setMix(Map.of(Operation.CREATE, 1))
+            .setSeedBoards(0)
+            .build()
+            .run();
+
+        LoadReport.OperationStats creates = report.get(Operation.CREATE);
+        assertThat(creates.histogram().getTotalCount(), equalTo(5L));
+        assertThat(creates.statuses(), equalTo(Map.of(LoadReport.TRANSPORT_ERROR, 5L)));
+    }
+}
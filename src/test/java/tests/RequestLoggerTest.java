@@ -0,0 +1,191 @@
+package tests;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import beans.TrelloBoard;
+import constants.LogMode;
+import core.RequestLogger;
+import core.TransportResponse;
+import core.TrelloServiceObj;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import org.testng.annotations.Test;
+
+public class RequestLoggerTest {
+
+    @Test
+    public void onFailureLogsOnlyFailuresTest() {
+        RequestLogger logger = RequestLogger.builder().setMode(LogMode.ON_FAILURE).build();
+        assertThat(logger.shouldLog(false), equalTo(false));
+        assertThat(logger.shouldLog(true), equalTo(true));
+        logger.close();
+    }
+
+    @Test
+    public void sampledLogsOneInNTest() {
+        RequestLogger logger = RequestLogger.builder().setMode(LogMode.SAMPLED).setSampleRate(10).build();
+        int logged = 0;
+        for (int i = 0; i < 100; i++) {
+            if (logger.shouldLog(false)) {
+                logged++;
+            }
+        }
+        assertThat(logged, equalTo(10));
+        logger.close();
+    }
+
+    @Test
+    public void offLogsNothingTest() {
+        RequestLogger logger = RequestLogger.builder().setMode(LogMode.OFF).build();
+        assertThat(logger.shouldLog(true), equalTo(false));
+        logger.close();
+    }
+
+    @Test
+    public void fullModeTruncatesLongBodiesTest() throws Exception {
+        List<String> entries = new CopyOnWriteArrayList<>();
+        RequestLogger logger = RequestLogger.builder()
+            .setMode(LogMode.FULL)
+            .setMaxBodyLength(10)
+            .setSink(entries::add)
+            .build();
+        String id;
+        try (BoardStubServer server = new BoardStubServer()) {
+            id = server.boardId("logged");
+            URI target = server.boardUri("logged");
+            Response response = RestAssured.get(target);
+            logger.log(Method.GET, target, Map.of("token", "secret"), response, false);
+        }
+        logger.close();
+
+        assertThat(entries.size(), equalTo(1));
+        assertThat(entries.get(0), containsString("{\"id\":\"" + id.substring(0, 3) + "... ("));
+        assertThat(entries.get(0), containsString("param token=***"));
+    }
+
+    @Test
+    public void loggedResponseCanStillBeParsedTest() throws Exception {
+        List<String> entries = new CopyOnWriteArrayList<>();
+        RequestLogger logger = RequestLogger.builder()
+            .setMode(LogMode.FULL)
+            .setMaxBodyLength(10)
+            .setSink(entries::add)
+            .build();
+        try (BoardStubServer server = new BoardStubServer()) {
+            String id = server.boardId("parsed");
+            URI target = server.boardUri("parsed");
+            Response response = RestAssured.get(target);
+            logger.log(Method.GET, target, Map.of(), response, false);
+
+            TrelloBoard board = TrelloServiceObj.formBoardFromResponse(response);
+            assertThat(board.getId(), equalTo(id));
+            assertThat(board.getName(), equalTo("parsed"));
+        }
+        logger.close();
+        assertThat(entries.size(), equalTo(1));
+    }
+
+    @Test
+    public void truncatesOnCharacterBoundaryTest() {
+        List<String> entries = new CopyOnWriteArrayList<>();
+        RequestLogger logger = RequestLogger.builder()
+            .setMode(LogMode.FULL)
+            .setMaxBodyLength(4)
+            .setSink(entries::add)
+            .build();
+        byte[] body = "\"\u00e9\u00e9\u00e9\"".getBytes(StandardCharsets.UTF_8);
+        logger.log(Method.GET, URI.create("http://localhost/1/boards/1"), Map.of(), response(body), false);
+        logger.close();
+
+        assertThat(entries.size(), equalTo(1));
+        assertThat(entries.get(0), not(containsString("\ufffd")));
+        assertThat(entries.get(0), containsString("\"\u00e9... (5 more bytes)"));
+    }
+
+    @Test
+    public void keepsMultibyteCharacterThatFitsTest() {
+        List<String> entries = new CopyOnWriteArrayList<>();
+        RequestLogger logger = RequestLogger.builder()
+            .setMode(LogMode.FULL)
+            .setMaxBodyLength(3)
+            .setSink(entries::add)
+            .build();
+        byte[] body = "\"\u00e9\"}".getBytes(StandardCharsets.UTF_8);
+        logger.log(Method.GET, URI.create("http://localhost/1/boards/1"), Map.of(), response(body), false);
+        logger.close();
+
+        assertThat(entries.get(0), containsString("\"\u00e9... (2 more bytes)"));
+    }
+
+    @Test
+    public void fullBufferDropsInsteadOfBlockingTest() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RequestLogger logger = RequestLogger.builder()
+            .setMode(LogMode.FULL)
+            .setCapacity(2)
+            .setSink(entry -> {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            })
+            .build();
+        for (int i = 0; i < 10; i++) {
+            logger.submit("entry" + i);
+        }
+        assertThat(logger.droppedEntries() >= 7, equalTo(true));
+        release.countDown();
+        logger.close();
+    }
+
+    private static TransportResponse response(byte[] body) {
+        return new TransportResponse() {
+            @Override
+            public int statusCode() {
+                return 200;
+            }
+
+            @Override
+            public String contentType() {
+                return "application/json";
+            }
+
+            @Override
+            public String header(String name) {
+                return null;
+            }
+
+            @Override
+            public Map<String, List<String>> headers() {
+                return Map.of();
+            }
+
+            @Override
+            public InputStream body() {
+                return new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public void discard() {
+            }
+
+            @Override
+            public TransportResponse buffered() {
+                return this;
+            }
+        };
+    }
+}
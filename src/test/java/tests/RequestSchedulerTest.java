@@ -0,0 +1,178 @@
+package tests;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.testng.Assert.expectThrows;
+
+import core.Credentials;
+import core.HttpClientTransport;
+import core.RequestScheduler;
+import core.Transport;
+import core.TransportRequest;
+import core.TransportResponse;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+public class RequestSchedulerTest {
+    private static final int CALLERS = 16;
+    private static final int REQUESTS = 60;
+
+    @Test
+    public void bucketKeepsClientUnderServerLimitTest() throws Exception {
+        RequestScheduler scheduler = RequestScheduler.builder()
+            .limitAllHosts()
+            .setKeyLimit(3, Duration.ofMillis(100))
+            .setTokenLimit(3, Duration.ofMillis(100))
+            .build();
+        try (BoardStubServer server = new BoardStubServer(40)) {
+            List<Integer> statuses = run(scheduler, server);
+
+            assertThat(statuses.stream().filter(status -> status == 200).count(), equalTo((long) REQUESTS));
+            assertThat(server.rejectedRequests(), lessThan((long) REQUESTS / 20));
+        }
+    }
+
+    @Test
+    public void backsOffAndRetriesOn429Test() throws Exception {
+        RequestScheduler scheduler = RequestScheduler.builder()
+            .limitAllHosts()
+            .setKeyLimit(10000, Duration.ofSeconds(1))
+            .setTokenLimit(10000, Duration.ofSeconds(1))
+            .setConcurrency(1, CALLERS, CALLERS)
+            .setMaxRetries(20)
+            .setBackoff(Duration.ofMillis(50), Duration.ofSeconds(1))
+            .build();
+        try (BoardStubServer server = new BoardStubServer(10)) {
+            List<Integer> statuses = run(scheduler, server);
+
+            assertThat(statuses.stream().filter(status -> status == 200).count(), equalTo((long) REQUESTS));
+            assertThat(scheduler.throttledResponses(), greaterThan(0L));
+            assertThat(scheduler.retries(), equalTo(scheduler.throttledResponses()));
+            assertThat(scheduler.concurrencyLimit() < CALLERS, equalTo(true));
+        }
+    }
+
+    @Test
+    public void asyncSendsRetryWithoutBlockingTest() throws Exception {
+        RequestScheduler scheduler = RequestScheduler.builder()
+            .limitAllHosts()
+            .setKeyLimit(10000, Duration.ofSeconds(1))
+            .setTokenLimit(10000, Duration.ofSeconds(1))
+            .setConcurrency(1, CALLERS, CALLERS)
+            .setMaxRetries(20)
+            .setBackoff(Duration.ofMillis(50), Duration.ofSeconds(1))
+            .build();
+        Transport transport = HttpClientTransport.builder().build();
+        Credentials credentials = new Credentials("key", "token");
+        try (BoardStubServer server = new BoardStubServer(10)) {
+            List<CompletableFuture<TransportResponse>> sent = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                TransportRequest request = new TransportRequest(Method.GET, server.boardUri("async" + i), Map.of(),
+                    Map.of(), credentials);
+                sent.add(scheduler.sendAsync(request.target(), () -> transport.sendAsync(request, Runnable::run)));
+            }
+
+            for (CompletableFuture<TransportResponse> response : sent) {
+                TransportResponse done = response.get(60, TimeUnit.SECONDS);
+                done.discard();
+                assertThat(done.statusCode(), equalTo(200));
+            }
+            assertThat(scheduler.throttledResponses(), greaterThan(0L));
+            assertThat(scheduler.retries(), equalTo(scheduler.throttledResponses()));
+        }
+    }
+
+    @Test
+    public void unlimitedHostsBypassSchedulerTest() throws Exception {
+        RequestScheduler scheduler = RequestScheduler.builder()
+            .setTokenLimit(1, Duration.ofHours(1))
+            .build();
+        try (BoardStubServer server = new BoardStubServer()) {
+            for (int i = 0; i < 5; i++) {
+                URI target = server.boardUri("bypass" + i);
+                assertThat(scheduler.execute(target, () -> RestAssured.get(target)).statusCode(), equalTo(200));
+            }
+        }
+    }
+
+    @Test
+    public void checkedExceptionsGiveBackTheirSlotTest() throws Exception {
+        RequestScheduler scheduler = RequestScheduler.builder()
+            .limitAllHosts()
+            .setConcurrency(1, 1, 1)
+            .build();
+        Transport transport = HttpClientTransport.builder().build();
+        Credentials credentials = new Credentials("key", "token");
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        try (BoardStubServer server = new BoardStubServer()) {
+            URI target = server.boardUri("after-failures");
+            for (int i = 0; i < 3; i++) {
+                expectThrows(ConnectException.class, () -> scheduler.execute(target, () -> {
+                    sneakyThrow(new ConnectException("refused"));
+                    return null;
+                }));
+                ExecutionException failed = expectThrows(ExecutionException.class,
+                    () -> scheduler.sendAsync(target, () -> {
+                        sneakyThrow(new ConnectException("refused"));
+                        return null;
+                    }).get(10, TimeUnit.SECONDS));
+                assertThat(failed.getCause(), instanceOf(ConnectException.class));
+            }
+
+            Future<Integer> sync = caller.submit(() -> scheduler.execute(target, () -> RestAssured.get(target))
+                .statusCode());
+            assertThat(sync.get(10, TimeUnit.SECONDS), equalTo(200));
+            TransportRequest request = new TransportRequest(Method.GET, target, Map.of(), Map.of(), credentials);
+            TransportResponse async = scheduler.sendAsync(target, () -> transport.sendAsync(request, Runnable::run))
+                .get(10, TimeUnit.SECONDS);
+            async.discard();
+            assertThat(async.statusCode(), equalTo(200));
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> void sneakyThrow(Throwable ex) throws E {
+        throw (E) ex;
+    }
+
+    private static List<Integer> run(RequestScheduler scheduler, BoardStubServer server) throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                URI target = server.boardUri("scheduled" + i);
+                futures.add(callers.submit(() -> {
+                    Response response = scheduler.execute(target, () -> RestAssured.get(target));
+                    response.asByteArray();
+                    return response.statusCode();
+                }));
+            }
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                statuses.add(future.get());
+            }
+            return statuses;
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
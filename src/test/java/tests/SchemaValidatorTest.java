@@ -0,0 +1,95 @@
+package tests;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.nullValue;
+import static org.testng.Assert.expectThrows;
+
+import beans.TrelloBoard;
+import beans.TrelloCard;
+import benchmarks.Payloads;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import core.BoardReader;
+import core.JsonArrayIterator;
+import core.LazyTrelloBoard;
+import core.SchemaValidator;
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.testng.annotations.Test;
+
+public class SchemaValidatorTest {
+
+    @Test
+    public void recordedBoardIsValidTest() {
+        TrelloBoard board = BoardReader.read(new ByteArrayInputStream(Payloads.load("board.json")));
+
+        assertThat(board.getId(), equalTo("617efbb826edf02a716c8a9e"));
+    }
+
+    @Test
+    public void wrongTopLevelTypeIsRejectedTest() throws Exception {
+        ObjectNode board = recordedBoard();
+        board.put("closed", "yes");
+
+        UncheckedIOException ex = expectThrows(UncheckedIOException.class, () -> read(board));
+        assertThat(ex.getMessage(), containsString("$.closed: expected boolean but got VALUE_STRING"));
+    }
+
+    @Test
+    public void wrongNestedTypeIsRejectedTest() throws Exception {
+        ObjectNode board = recordedBoard();
+        ((ObjectNode) board.get("prefs")).put("permissionLevel", 1);
+
+        UncheckedIOException ex = expectThrows(UncheckedIOException.class, () -> read(board));
+        assertThat(ex.getMessage(), containsString("$.prefs.permissionLevel: expected string but got VALUE_NUMBER_INT"));
+    }
+
+    @Test
+    public void nullsAndUnknownFieldsAreAcceptedTest() throws Exception {
+        ObjectNode board = recordedBoard();
+        board.putNull("name");
+        board.put("descData", 42);
+        board.putArray("newField").add(1).add("two");
+
+        TrelloBoard read = read(board);
+        assertThat(read.getName(), nullValue());
+        assertThat(read.getAdditionalProperties().containsKey("newField"), equalTo(true));
+    }
+
+    @Test
+    public void lazyNestedObjectsAreValidatedOnDecodeTest() throws Exception {
+        ObjectNode board = recordedBoard();
+        ((ObjectNode) board.get("prefs")).put("selfJoin", "always");
+        LazyTrelloBoard lazy = BoardReader.readLazy(BoardReader.mapper().writeValueAsBytes(board));
+
+        assertThat(lazy.getId(), equalTo("617efbb826edf02a716c8a9e"));
+        UncheckedIOException ex = expectThrows(UncheckedIOException.class, lazy::getPrefs);
+        assertThat(ex.getMessage(), containsString("$.selfJoin: expected boolean"));
+    }
+
+    @Test
+    public void arrayElementsAreValidatedTest() {
+        String cards = "[{\"id\":\"a\",\"closed\":false},{\"id\":\"b\",\"closed\":\"no\"}]";
+        try (JsonArrayIterator<TrelloCard> it = BoardReader.readArray(
+            new ByteArrayInputStream(cards.getBytes(StandardCharsets.UTF_8)), TrelloCard.class)) {
+            assertThat(it.next().getId(), equalTo("a"));
+            RuntimeException ex = expectThrows(RuntimeException.class, it::next);
+            assertThat(ex.getMessage(), containsString("$[].closed: expected boolean"));
+        }
+    }
+
+    @Test
+    public void typesWithoutSampleAreNotValidatedTest() {
+        assertThat(SchemaValidator.forType(SchemaValidatorTest.class), nullValue());
+    }
+
+    private static ObjectNode recordedBoard() throws Exception {
+        return (ObjectNode) BoardReader.mapper().readTree(Payloads.load("board.json"));
+    }
+
+    private static TrelloBoard read(ObjectNode board) throws Exception {
+        return BoardReader.read(new ByteArrayInputStream(BoardReader.mapper().writeValueAsBytes(board)));
+    }
+}
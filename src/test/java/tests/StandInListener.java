@@ -0,0 +1,42 @@
+package tests;
+
+import core.TrelloServiceObj;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import server.TrelloStandIn;
+
+/**
+ * With {@code -Dtrello.standin=true}, runs the whole suite against one in-memory
+ * {@link TrelloStandIn} instead of api.trello.com. Leaked boards are reaped from the stand-in
+ * before it stops, see {@link BoardReaperListener}.
+ */
+public class StandInListener implements ISuiteListener {
+    private TrelloStandIn standIn;
+    private URI previousBaseUri;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Boolean.getBoolean("trello.standin")) {
+            return;
+        }
+        try {
+            standIn = TrelloStandIn.builder().start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        previousBaseUri = TrelloServiceObj.getBaseUri();
+        TrelloServiceObj.setBaseUri(standIn.baseUri());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (standIn != null) {
+            BoardReaperListener.reap(standIn.baseUri());
+            TrelloServiceObj.setBaseUri(previousBaseUri);
+            standIn.close();
+        }
+    }
+}
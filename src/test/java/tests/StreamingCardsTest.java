@@ -0,0 +1,80 @@
+package tests;
+
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import beans.TrelloCard;
+import com.sun.net.httpserver.HttpServer;
+import core.JsonArrayIterator;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+public class StreamingCardsTest {
+    private static final int CARDS = 50_000;
+
+    /**
+     * The server holds back everything after the first card until the client has parsed it,
+     * which only works if the array is consumed as it arrives.
+     */
+    @Test
+    public void parsesCardsWhileBodyIsStillArrivingTest() throws Exception {
+        CountDownLatch firstCardParsed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/1/lists/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(("[" + card(0)).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                if (!firstCardParsed.await(10, TimeUnit.SECONDS)) {
+                    return;
+                }
+                for (int i = 1; i < CARDS; i++) {
+                    out.write(("," + card(i)).getBytes(StandardCharsets.UTF_8));
+                }
+                out.write(']');
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+
+        URI target = URI.create("http://127.0.0.1:" + server.getAddress().getPort()
+            + "/1/lists/617efbb9c3c0a52e8bd0e5a1/cards");
+        try (JsonArrayIterator<TrelloCard> cards = TrelloServiceObj.requestBuilder()
+            .setMethod(Method.GET)
+            .setTarget(target)
+            .buildRequest()
+            .streamRequest(GOOD_RESPONSE, TrelloCard.class)) {
+            assertThat(cards.next().getName(), equalTo("card 0"));
+            firstCardParsed.countDown();
+
+            int count = 1;
+            while (cards.hasNext()) {
+                assertThat(cards.next().getName(), equalTo("card " + count));
+                count++;
+            }
+            assertThat(count, equalTo(CARDS));
+        } finally {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    private static String card(int i) {
+        return String.format("{\"id\":\"617efbbb6f0d8c1d2a%06x\",\"name\":\"card %d\",\"closed\":false,"
+            + "\"idList\":\"617efbb9c3c0a52e8bd0e5a1\",\"pos\":%d.5,\"badges\":{\"attachments\":0}}", i, i, i);
+    }
+}
@@ -0,0 +1,113 @@
+package tests;
+
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static constants.ResponseStatus.NOT_FOUND_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.testng.Assert.expectThrows;
+
+import beans.TrelloBoard;
+import constants.BoardParameters;
+import core.HttpClientTransport;
+import core.RestAssuredTransport;
+import core.Transport;
+import core.TrelloServiceObj;
+import io.restassured.http.Method;
+import java.net.URI;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import server.TrelloStandIn;
+
+public class TransportTest {
+    private TrelloStandIn standIn;
+    private URI boards;
+
+    @BeforeClass
+    public void startStandIn() throws Exception {
+        standIn = TrelloStandIn.builder().start();
+        boards = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStandIn() {
+        standIn.close();
+    }
+
+    @DataProvider(parallel = true)
+    public Object[][] transports() {
+        return new Object[][] {{new RestAssuredTransport()}, {HttpClientTransport.builder().build()}};
+    }
+
+    @Test(dataProvider = "transports")
+    public void boardLifecycleTest(Transport transport) {
+        TrelloBoard created = request(transport, Method.POST, boards)
+            .setName("transport")
+            .buildRequest()
+            .boardRequest(GOOD_RESPONSE);
+        URI board = boards.resolve(created.getId());
+        assertThat(created.getName(), equalTo("transport"));
+
+        String description = "sent over " + transport.getClass().getSimpleName();
+        TrelloBoard updated = request(transport, Method.PUT, board)
+            .setParameter(BoardParameters.DESCRIPTION.getParameterName(), description)
+            .buildRequest()
+            .boardRequest(GOOD_RESPONSE);
+        assertThat(updated.getDesc(), equalTo(description));
+
+        TrelloBoard read = request(transport, Method.GET, board).buildRequest().boardRequest(GOOD_RESPONSE);
+        assertThat(read.getId(), equalTo(created.getId()));
+        assertThat(read.getDesc(), equalTo(updated.getDesc()));
+
+        request(transport, Method.DELETE, board).buildRequest().boardRequest(GOOD_RESPONSE);
+        assertThat(request(transport, Method.GET, board).buildRequest().boardRequest(NOT_FOUND_RESPONSE),
+            nullValue());
+    }
+
+    @Test(dataProvider = "transports")
+    public void asyncRequestsTest(Transport transport) {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TrelloBoard created = request(transport, Method.POST, boards)
+                .setName("async transport")
+                .buildRequest()
+                .boardRequestAsync(GOOD_RESPONSE, executor)
+                .join();
+
+            TrelloBoard read = request(transport, Method.GET, boards.resolve(created.getId()))
+                .buildRequest()
+                .boardRequestAsync(GOOD_RESPONSE, executor)
+                .join();
+            assertThat(read.getName(), equalTo("async transport"));
+
+            CompletionException ex = expectThrows(CompletionException.class,
+                () -> request(transport, Method.GET, boards.resolve("000000000000000000000000"))
+                    .buildRequest()
+                    .boardRequestAsync(GOOD_RESPONSE, executor)
+                    .join());
+            assertThat(ex.getCause() instanceof AssertionError, equalTo(true));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(dataProvider = "transports")
+    public void unexpectedStatusFailsTest(Transport transport) {
+        TrelloServiceObj missing = request(transport, Method.GET, boards.resolve("000000000000000000000000"))
+            .buildRequest();
+
+        expectThrows(AssertionError.class, () -> missing.boardRequest(GOOD_RESPONSE));
+    }
+
+    private static TrelloServiceObj.ApiRequestBuilder request(Transport transport, Method method, URI target) {
+        return TrelloServiceObj.requestBuilder()
+            .setTransport(transport)
+            .setMethod(method)
+            .setTarget(target);
+    }
+}
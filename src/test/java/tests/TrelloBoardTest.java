@@ -12,48 +12,63 @@ import static constants.ResponseStatus.NOT_FOUND_RESPONSE;
 
 import beans.TrelloBoard;
 import constants.BoardParameters;
+import core.RunNamespace;
 import core.TrelloServiceObj;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 public class TrelloBoardTest {
     public final int NAME_LENGTH = 16;
     public final int ID_LENGTH = 24;
-    TrelloBoard board;
+    public final int POOL_SIZE = Integer.getInteger("board.pool.size", 4);
+    private final ThreadLocal<TrelloBoard> board = new ThreadLocal<>();
+    private BoardPool pool;
+
+    @BeforeClass
+    public void createBoardPool() {
+        pool = new BoardPool(POOL_SIZE, RunNamespace.current().name(RandomStringUtils.randomAlphabetic(NAME_LENGTH)));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteBoardPool() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
 
     @BeforeMethod(onlyForGroups = {"setUp"})
     public void createBoard() {
-        board = TrelloServiceObj.createBoard(
-            RandomStringUtils.randomAlphabetic(NAME_LENGTH), GOOD_RESPONSE
-        );
+        board.set(pool.lease());
     }
 
     @AfterMethod(onlyForGroups = {"tearDown"})
     public void deleteBoard() {
-        TrelloServiceObj.deleteBoard(board.getId(), GOOD_RESPONSE);
+        pool.release(board.get());
     }
 
     @Test(groups = {"setUp", "tearDown"})
     public void createNewBoardTest() {
-        assertThat(board.getClosed(), equalTo(false));
-        assertThat(board, is(not(nullValue())));
+        assertThat(board.get().getClosed(), equalTo(false));
+        assertThat(board.get(), is(not(nullValue())));
     }
 
     @Test(groups = {"setUp", "tearDown"})
     public void updateDescriptionTest() {
         String description = RandomStringUtils.randomAlphabetic(NAME_LENGTH);
-        board = TrelloServiceObj.updateBoard(
-            board.getId(), BoardParameters.DESCRIPTION.getParameterName(), description,
+        board.set(TrelloServiceObj.updateBoard(
+            board.get().getId(), BoardParameters.DESCRIPTION.getParameterName(), description,
             GOOD_RESPONSE
-        );
-        assertThat(board.getDesc(), containsString(description));
+        ));
+        assertThat(board.get().getDesc(), containsString(description));
     }
 
     @Test
     public void createBoardsWithSameNamesTest() {
-        String name = RandomStringUtils.randomAlphabetic(NAME_LENGTH);
+        String name = RunNamespace.current().name(RandomStringUtils.randomAlphabetic(NAME_LENGTH));
         TrelloBoard board1 = TrelloServiceObj.createBoard(name, GOOD_RESPONSE);
         TrelloBoard board2 = TrelloServiceObj.createBoard(name, GOOD_RESPONSE);
 
@@ -64,17 +79,18 @@ public class TrelloBoardTest {
 
     @Test(groups = {"setUp"})
     public void deleteBoardTest() {
-        TrelloServiceObj.deleteBoard(board.getId(), GOOD_RESPONSE);
-        TrelloServiceObj.getBoard(board.getId(), NOT_FOUND_RESPONSE);
+        pool.discard(board.get());
+        TrelloServiceObj.deleteBoard(board.get().getId(), GOOD_RESPONSE);
+        TrelloServiceObj.getBoard(board.get().getId(), NOT_FOUND_RESPONSE);
     }
 
     @Test(groups = {"setUp", "tearDown"})
     public void closeBoardTest() {
-        board = TrelloServiceObj.updateBoard(
-            board.getId(), BoardParameters.CLOSED.getParameterName(), "true",
+        board.set(TrelloServiceObj.updateBoard(
+            board.get().getId(), BoardParameters.CLOSED.getParameterName(), "true",
             GOOD_RESPONSE
-        );
-        assertThat(board.getClosed(), equalTo(true));
+        ));
+        assertThat(board.get().getClosed(), equalTo(true));
     }
 
     @Test
@@ -0,0 +1,112 @@
+package tests;
+
+import static constants.ResponseStatus.BAD_RESPONSE;
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static constants.ResponseStatus.NOT_FOUND_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import beans.TrelloBoard;
+import core.AsyncExecutors;
+import core.BoardResult;
+import core.TrelloServiceObj;
+import io.restassured.RestAssured;
+import io.restassured.http.Method;
+import io.restassured.response.Response;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+import server.LatencyDistribution;
+import server.TrelloStandIn;
+
+public class TrelloStandInTest {
+    private static final String MISSING_ID = "0000fbb826edf02a716c8a9e";
+
+    @Test
+    public void boardLifecycleTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            URI boards = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI);
+            TrelloBoard created = request(Method.POST, boards, Map.of("name", "stand-in")).boardRequest(GOOD_RESPONSE);
+            assertThat(created.getId().length(), equalTo(24));
+            assertThat(created.getName(), equalTo("stand-in"));
+            assertThat(created.getClosed(), equalTo(false));
+
+            URI board = boards.resolve(created.getId());
+            TrelloBoard updated = request(Method.PUT, board, Map.of("desc", "changed", "closed", "true"))
+                .boardRequest(GOOD_RESPONSE);
+            assertThat(updated.getDesc(), equalTo("changed"));
+            assertThat(updated.getClosed(), equalTo(true));
+            assertThat(request(Method.GET, board, Map.of()).boardRequest(GOOD_RESPONSE).getDesc(), equalTo("changed"));
+
+            request(Method.DELETE, board, Map.of()).boardRequest(GOOD_RESPONSE);
+            assertThat(request(Method.GET, board, Map.of()).boardRequest(NOT_FOUND_RESPONSE), nullValue());
+            assertThat(standIn.boardCount(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void mirrorsTrelloErrorsTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            URI boards = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI);
+            request(Method.GET, boards.resolve("notAnId"), Map.of()).boardRequest(BAD_RESPONSE);
+            request(Method.PUT, boards.resolve("notAnId"), Map.of("closed", "true")).boardRequest(BAD_RESPONSE);
+            request(Method.GET, boards.resolve(MISSING_ID), Map.of()).boardRequest(NOT_FOUND_RESPONSE);
+            request(Method.POST, boards, Map.of()).boardRequest(BAD_RESPONSE);
+        }
+    }
+
+    @Test
+    public void answersBatchReadsTest() throws Exception {
+        ExecutorService executor = AsyncExecutors.cachedDaemonPool("stand-in-test");
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start()) {
+            URI boards = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI);
+            String id = request(Method.POST, boards, Map.of("name", "batched")).boardRequest(GOOD_RESPONSE).getId();
+
+            Map<String, BoardResult> results = TrelloServiceObj.getBoards(
+                standIn.baseUri(), List.of(id, MISSING_ID, "notAnId"), executor);
+
+            assertThat(results.get(id).board().getName(), equalTo("batched"));
+            assertThat(results.get(MISSING_ID).responseStatus(), equalTo(NOT_FOUND_RESPONSE));
+            assertThat(results.get("notAnId").responseStatus(), equalTo(BAD_RESPONSE));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void appliesRouteLatencyAndRateLimitTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder()
+            .setLatency("GET /1/boards/{id}", LatencyDistribution.fixed(Duration.ofMillis(50)))
+            .setRateLimit(1)
+            .start()) {
+            URI board = standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI).resolve(MISSING_ID);
+            long start = System.nanoTime();
+            Response first = RestAssured.get(board);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Response second = RestAssured.get(board);
+
+            assertThat(elapsedMillis, greaterThanOrEqualTo(50L));
+            if (second.statusCode() == 429) {
+                assertThat(second.header("x-rate-limit-api-token-remaining"), equalTo("0"));
+                assertThat(standIn.rejectedRequests(), equalTo(1L));
+            } else {
+                // the two calls straddled a window boundary
+                assertThat(first.statusCode(), equalTo(404));
+            }
+        }
+    }
+
+    private static TrelloServiceObj request(Method method, URI target, Map<String, String> parameters) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(method)
+            .setTarget(target)
+            .setParameters(parameters)
+            .buildRequest();
+    }
+}
@@ -0,0 +1,140 @@
+package tests;
+
+import static constants.BoardParameters.CLOSED;
+import static constants.BoardParameters.DESCRIPTION;
+import static constants.BoardParameters.NAME;
+import static constants.ResponseStatus.GOOD_RESPONSE;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.testng.Assert.expectThrows;
+
+import beans.TrelloBoard;
+import core.TrelloServiceObj;
+import core.UpdateCoalescer;
+import io.restassured.http.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+import server.LatencyDistribution;
+import server.TrelloStandIn;
+
+public class UpdateCoalescerTest {
+
+    @Test
+    public void mergesUpdatesWithinWindowTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start();
+             UpdateCoalescer coalescer = UpdateCoalescer.builder()
+                 .setBaseUri(standIn.baseUri())
+                 .setWindow(Duration.ofMillis(100))
+                 .build()) {
+            String id = createBoard(standIn);
+            long before = standIn.requestCount();
+
+            CompletableFuture<TrelloBoard> desc = coalescer.update(id, DESCRIPTION, "merged");
+            CompletableFuture<TrelloBoard> name = coalescer.update(id, NAME, "renamed");
+            CompletableFuture<TrelloBoard> closed = coalescer.update(id, CLOSED, "true");
+            TrelloBoard board = closed.get(5, TimeUnit.SECONDS);
+
+            assertThat(board.getDesc(), equalTo("merged"));
+            assertThat(board.getName(), equalTo("renamed"));
+            assertThat(board.getClosed(), equalTo(true));
+            assertThat(desc.get(), sameInstance(board));
+            assertThat(name.get(), sameInstance(board));
+            assertThat(standIn.requestCount() - before, equalTo(1L));
+            assertThat(coalescer.putCount(), equalTo(1L));
+        }
+    }
+
+    @Test
+    public void lastWriterWinsPerFieldTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start();
+             UpdateCoalescer coalescer = UpdateCoalescer.builder()
+                 .setBaseUri(standIn.baseUri())
+                 .setWindow(Duration.ZERO)
+                 .build()) {
+            String id = createBoard(standIn);
+
+            CompletableFuture<TrelloBoard> first = coalescer.update(id, DESCRIPTION, "first");
+            coalescer.update(id, NAME, "kept");
+            coalescer.update(id, DESCRIPTION, "second");
+            assertThat(coalescer.pendingBoards(), equalTo(1));
+            assertThat(first.isDone(), equalTo(false));
+
+            coalescer.flush(id).get(5, TimeUnit.SECONDS);
+            assertThat(first.get().getDesc(), equalTo("second"));
+            assertThat(first.get().getName(), equalTo("kept"));
+            assertThat(coalescer.pendingBoards(), equalTo(0));
+        }
+    }
+
+    @Test
+    public void sendsOnePutPerBoardTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start();
+             UpdateCoalescer coalescer = UpdateCoalescer.builder()
+                 .setBaseUri(standIn.baseUri())
+                 .setWindow(Duration.ZERO)
+                 .build()) {
+            String first = createBoard(standIn);
+            String second = createBoard(standIn);
+            coalescer.update(first, DESCRIPTION, "a");
+            coalescer.update(second, DESCRIPTION, "b");
+            coalescer.update(first, NAME, "c");
+
+            coalescer.flushAll().get(5, TimeUnit.SECONDS);
+            assertThat(coalescer.updateCount(), equalTo(3L));
+            assertThat(coalescer.putCount(), equalTo(2L));
+        }
+    }
+
+    @Test
+    public void laterBatchWaitsForPutInFlightTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder()
+                 .setLatency("PUT /1/boards/{id}", LatencyDistribution.uniform(Duration.ZERO, Duration.ofMillis(100)))
+                 .start();
+             UpdateCoalescer coalescer = UpdateCoalescer.builder()
+                 .setBaseUri(standIn.baseUri())
+                 .setWindow(Duration.ZERO)
+                 .build()) {
+            String id = createBoard(standIn);
+            for (int round = 0; round < 5; round++) {
+                CompletableFuture<TrelloBoard> older = coalescer.update(id, DESCRIPTION, "older " + round);
+                coalescer.flush(id);
+                CompletableFuture<TrelloBoard> newer = coalescer.update(id, DESCRIPTION, "newer " + round);
+                coalescer.flush(id);
+
+                TrelloBoard board = newer.get(5, TimeUnit.SECONDS);
+                assertThat(older.isDone(), equalTo(true));
+                assertThat(board.getDesc(), equalTo("newer " + round));
+            }
+            assertThat(coalescer.putCount(), equalTo(10L));
+        }
+    }
+
+    @Test
+    public void failedSendCompletesCallersTest() throws Exception {
+        try (TrelloStandIn standIn = TrelloStandIn.builder().start();
+             UpdateCoalescer coalescer = UpdateCoalescer.builder()
+                 .setBaseUri(standIn.baseUri())
+                 .setWindow(Duration.ofMillis(10))
+                 .setExecutor(null)
+                 .build()) {
+            CompletableFuture<TrelloBoard> update = coalescer.update(createBoard(standIn), DESCRIPTION, "lost");
+
+            ExecutionException ex = expectThrows(ExecutionException.class, () -> update.get(5, TimeUnit.SECONDS));
+            assertThat(ex.getCause() instanceof NullPointerException, equalTo(true));
+        }
+    }
+
+    private static String createBoard(TrelloStandIn standIn) {
+        return TrelloServiceObj.requestBuilder()
+            .setMethod(Method.POST)
+            .setTarget(standIn.baseUri().resolve(TrelloServiceObj.BOARD_URI))
+            .setName("coalesced")
+            .buildRequest()
+            .boardRequest(GOOD_RESPONSE)
+            .getId();
+    }
+}
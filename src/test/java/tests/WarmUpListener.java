@@ -0,0 +1,20 @@
+package tests;
+
+import load.WarmUp;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * With {@code -Dtrello.warmUp=true}, runs {@link WarmUp} before the first test so class loading and JIT of the
+ * client stack do not land in the first tests' timings or in the latency report. {@code -Dwarmup.rounds} sets how
+ * many rounds it runs. The surefire configuration turns it on; {@code -Dtest.warmUp=false} skips it.
+ */
+public class WarmUpListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (Boolean.getBoolean("trello.warmUp")) {
+            System.out.println(WarmUp.run(Integer.getInteger("warmup.rounds", WarmUp.DEFAULT_ROUNDS)));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package tests;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.testng.Assert.expectThrows;
+
+import core.LatencyStats;
+import io.restassured.http.Method;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import load.WarmUp;
+import org.testng.annotations.Test;
+
+public class WarmUpTest {
+
+    @Test
+    public void keepsOtherEndpointsStatsTest() {
+        LatencyStats.record(Method.GET, URI.create("http://127.0.0.1/1/warm-up-test/0"),
+            TimeUnit.MILLISECONDS.toNanos(5));
+
+        WarmUp.Report report = WarmUp.run(1);
+
+        assertThat(report.requests(), equalTo(7));
+        assertThat(LatencyStats.snapshot("GET /1/warm-up-test/{id}").getTotalCount(), equalTo(1L));
+    }
+
+    @Test
+    public void rejectsZeroRoundsTest() {
+        expectThrows(IllegalArgumentException.class, () -> WarmUp.run(0));
+    }
+}